@@ -0,0 +1,44 @@
+-- 게시글 집계 컬럼(num_comment, num_child_comment, num_like, num_favorite) backfill
+--
+-- 컬럼이 추가된 직후에는 기존 게시글의 값이 모두 0 이며, 애플리케이션은 매일 오전 4시 30분에만 재계산합니다.
+-- 배포 직후 한 번 실행하여 기존 게시글의 수를 채웁니다. (PostRepository.syncCountsInRange 와 같은 기준)
+--
+-- 주의
+-- - 행 잠금을 오래 잡지 않도록 id 순서로 500개씩 나누어 범위마다 커밋합니다.
+-- - 실행 중 새로 반영되는 좋아요/댓글은 원자적 UPDATE로 함께 증감되므로 서비스 중에 실행해도 됩니다.
+-- - 다시 실행해도 결과는 같습니다.
+
+DROP PROCEDURE IF EXISTS backfill_post_counts;
+
+DELIMITER //
+CREATE PROCEDURE backfill_post_counts()
+BEGIN
+    DECLARE from_id VARCHAR(255) DEFAULT '';
+    DECLARE to_id VARCHAR(255);
+
+    batch_loop: LOOP
+        SET to_id = NULL;
+        SELECT MAX(t.id) INTO to_id
+        FROM (SELECT p.id FROM tb_post AS p WHERE p.id > from_id ORDER BY p.id LIMIT 500) AS t;
+
+        IF to_id IS NULL THEN
+            LEAVE batch_loop;
+        END IF;
+
+        START TRANSACTION;
+        UPDATE tb_post AS p SET
+            p.num_comment = (SELECT COUNT(*) FROM tb_comment AS c WHERE c.post_id = p.id AND c.is_deleted = false),
+            p.num_child_comment = (SELECT COUNT(*) FROM tb_child_comment AS cc JOIN tb_comment AS c ON cc.parent_comment_id = c.id
+                                   WHERE c.post_id = p.id AND cc.is_deleted = false),
+            p.num_like = (SELECT COUNT(*) FROM tb_like_post AS lp WHERE lp.post_id = p.id),
+            p.num_favorite = (SELECT COUNT(*) FROM tb_favorite_post AS fp WHERE fp.post_id = p.id AND fp.is_deleted = false)
+        WHERE p.id > from_id AND p.id <= to_id;
+        COMMIT;
+
+        SET from_id = to_id;
+    END LOOP;
+END //
+DELIMITER ;
+
+CALL backfill_post_counts();
+DROP PROCEDURE backfill_post_counts;
@@ -0,0 +1,15 @@
+-- 게시글 제목/내용 검색용 FULLTEXT 인덱스 (ngram parser)
+--
+-- 애플리케이션은 이 인덱스를 만들지 않으며, 인덱스가 없으면 제목 LIKE 검색을 사용합니다.
+-- 인덱스가 생성되면 10분 안에 각 서버가 확인하여 재시작 없이 FULLTEXT 검색으로 전환합니다.
+--
+-- 주의
+-- - tb_post 의 첫 FULLTEXT 인덱스이면 FTS_DOC_ID 컬럼 추가를 위해 테이블 전체를 다시 만듭니다.
+-- - FULLTEXT 인덱스 생성 중에는 읽기만 가능하고 tb_post 쓰기(게시글 작성/수정, 집계 컬럼 갱신)는 대기합니다.
+-- - 트래픽이 적은 시간에 배포와 별도로 한 번만 실행합니다.
+-- - ngram_token_size 는 기본값 2 를 가정합니다 (StaticValue.POST_SEARCH_NGRAM_TOKEN_SIZE).
+
+ALTER TABLE tb_post
+    ADD FULLTEXT INDEX post_title_content_fulltext_index (title, content) WITH PARSER ngram,
+    ALGORITHM = INPLACE,
+    LOCK = SHARED;
@@ -7,6 +7,7 @@ import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,7 +17,9 @@ import jakarta.persistence.Table;
 @Builder(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "tb_child_comment")
+@Table(name = "tb_child_comment", indexes = {
+        @Index(name = "user_id_is_deleted_parent_comment_id_index", columnList = "user_id, is_deleted, parent_comment_id")
+})
 public class ChildComment extends BaseEntity {
     @Column(name = "content", nullable = false)
     private String content;
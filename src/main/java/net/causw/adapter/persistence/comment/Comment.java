@@ -8,6 +8,7 @@ import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -20,7 +21,9 @@ import java.util.List;
 @Builder(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "tb_comment")
+@Table(name = "tb_comment", indexes = {
+        @Index(name = "user_id_is_deleted_post_id_index", columnList = "user_id, is_deleted, post_id")
+})
 public class Comment extends BaseEntity {
     @Column(name = "content", nullable = false)
     private String content;
@@ -10,7 +10,10 @@ import net.causw.adapter.persistence.user.User;
 @Builder(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "tb_like_child_comment")
+@Table(name = "tb_like_child_comment", uniqueConstraints = {
+        // 같은 사용자의 중복 요청은 unique 제약으로 막음 (ReactionService 참고)
+        @UniqueConstraint(name = "like_child_comment_child_comment_id_user_id_unique", columnNames = {"child_comment_id", "user_id"})
+})
 public class LikeChildComment extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "child_comment_id")
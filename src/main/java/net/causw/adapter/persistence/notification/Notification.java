@@ -3,6 +3,7 @@ package net.causw.adapter.persistence.notification;
 import jakarta.persistence.*;
 import lombok.*;
 import net.causw.adapter.persistence.base.BaseEntity;
+import net.causw.adapter.persistence.board.Board;
 import net.causw.adapter.persistence.user.User;
 import net.causw.domain.model.enums.notification.NoticeType;
 import org.hibernate.annotations.ColumnDefault;
@@ -12,13 +13,27 @@ import org.hibernate.annotations.ColumnDefault;
 @Builder(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "tb_notification")
+@Table(name = "tb_notification", indexes = {
+        @Index(name = "user_id_created_at_id_index", columnList = "user_id, created_at, id"),
+        @Index(name = "board_id_created_at_id_index", columnList = "board_id, created_at, id"),
+        @Index(name = "is_global_created_at_id_index", columnList = "is_global, created_at, id")
+})
 public class Notification extends BaseEntity {
 
+    // 알림 대상: user(개별 사용자) / board(게시판 구독자 전체, 한 번만 저장) / isGlobal(전체 사용자, 한 번만 저장)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = true)
     private User user;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = true)
+    private Board board;
+
+    // 게시판 알림의 게시글 작성자 (작성자 본인의 알림함에는 표시하지 않음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "writer_id", nullable = true)
+    private User writer;
+
     @Column(name = "content")
     private String content;
 
@@ -0,0 +1,41 @@
+package net.causw.adapter.persistence.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+import net.causw.adapter.persistence.base.BaseEntity;
+import net.causw.adapter.persistence.user.User;
+
+import java.time.LocalDateTime;
+
+// 사용자별 알림 읽음 기준 시각 (이 시각 이전에 생성된 알림은 모두 읽은 것으로 간주)
+@Getter
+@Entity
+@Builder(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(name = "tb_notification_read_mark")
+public class NotificationReadMark extends BaseEntity {
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    private User user;
+
+    @Column(name = "last_read_at", nullable = false)
+    private LocalDateTime lastReadAt;
+
+    public static NotificationReadMark of(
+            User user,
+            LocalDateTime lastReadAt
+    ) {
+        return NotificationReadMark.builder()
+                .user(user)
+                .lastReadAt(lastReadAt)
+                .build();
+    }
+
+    public void updateLastReadAt(LocalDateTime lastReadAt) {
+        if (lastReadAt.isAfter(this.lastReadAt)) {
+            this.lastReadAt = lastReadAt;
+        }
+    }
+}
@@ -11,7 +11,10 @@ import org.hibernate.annotations.ColumnDefault;
 @Builder(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "tb_favorite_post")
+@Table(name = "tb_favorite_post", uniqueConstraints = {
+        // 같은 사용자의 중복 요청은 unique 제약으로 막음 (ReactionService 참고)
+        @UniqueConstraint(name = "favorite_post_post_id_user_id_unique", columnNames = {"post_id", "user_id"})
+})
 public class FavoritePost extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
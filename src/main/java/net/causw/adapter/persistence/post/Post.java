@@ -22,7 +22,8 @@ import java.util.List;
 @Table(name = "tb_post", indexes = {
         @Index(name = "board_id_index", columnList = "board_id"),
         @Index(name = "user_id_index", columnList = "user_id"),
-        @Index(name = "form_id_index", columnList = "form_id")
+        @Index(name = "form_id_index", columnList = "form_id"),
+        @Index(name = "board_id_is_deleted_created_at_id_index", columnList = "board_id, is_deleted, created_at, id")
 })
 public class Post extends BaseEntity {
     @Column(name = "title", nullable = false)
@@ -65,6 +66,33 @@ public class Post extends BaseEntity {
     @JoinColumn(name = "vote_id" , unique = true)
     private Vote vote;
 
+    // 집계 컬럼은 PostRepository의 UPDATE 쿼리로만 증감 (엔티티 flush 시 덮어쓰지 않도록 insertable/updatable = false)
+    @Column(name = "num_like", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long numLike = 0L;
+
+    @Column(name = "num_favorite", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long numFavorite = 0L;
+
+    @Column(name = "num_comment", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long numComment = 0L;
+
+    @Column(name = "num_child_comment", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long numChildComment = 0L;
+
+    // 조회수는 Redis 버퍼에 모은 뒤 PostViewCountService가 주기적으로 반영
+    @Column(name = "num_view", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    @ColumnDefault("0")
+    private Long numView = 0L;
+
     public static Post of(
             String title,
             String content,
@@ -119,4 +147,9 @@ public class Post extends BaseEntity {
     public void updateVote(Vote vote){
         this.vote = vote;
     }
+
+    // 게시글에 작성된 모든 댓글(댓글 + 대댓글)의 수
+    public Long getNumAllComment() {
+        return this.numComment + this.numChildComment;
+    }
 }
@@ -2,9 +2,17 @@ package net.causw.adapter.persistence.repository.board;
 
 import net.causw.adapter.persistence.board.FavoriteBoard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface FavoriteBoardRepository extends JpaRepository<FavoriteBoard, String> {
     List<FavoriteBoard> findByUser_Id(String name);
+
+    // 사용자의 즐겨찾기 게시판 id만 조회 (삭제된 게시판 제외, 엔티티를 조회하지 않음)
+    @Query("SELECT fb.board.id FROM FavoriteBoard fb WHERE fb.user.id = :userId AND fb.board.isDeleted = false")
+    List<String> findBoardIdsByUser_Id(@Param("userId") String userId);
+
+    Boolean existsByUser_IdAndBoard_IdAndBoard_IsDeletedFalse(String userId, String boardId);
 }
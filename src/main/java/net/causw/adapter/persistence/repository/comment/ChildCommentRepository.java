@@ -4,11 +4,13 @@ import net.causw.adapter.persistence.comment.ChildComment;
 import net.causw.adapter.persistence.post.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,14 +19,10 @@ public interface ChildCommentRepository extends JpaRepository<ChildComment, Stri
 
     Long countByParentComment_IdAndIsDeletedIsFalse(String parentCommentId);
 
+    // 댓글 목록의 대댓글을 한 번에 조회
+    @EntityGraph(attributePaths = {"writer"})
+    List<ChildComment> findByParentComment_IdInOrderByCreatedAtAsc(Collection<String> parentCommentIds);
+
     @Query("select c from ChildComment c where c.parentComment.id = :parentCommentId")
     List<ChildComment> findByParentComment_Id(@Param("parentCommentId") String parentCommentId);
-
-    @Query("SELECT DISTINCT p " +
-            "FROM ChildComment cc " +
-            "JOIN cc.parentComment c " +
-            "JOIN c.post p " +
-            "WHERE cc.writer.id = :userId AND cc.isDeleted = false " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findPostsByUserId(@Param("userId") String userId, Pageable pageable);
 }
@@ -4,6 +4,8 @@ import net.causw.adapter.persistence.comment.Comment;
 import net.causw.adapter.persistence.post.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,7 +13,10 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, String> {
-    Page<Comment> findByPost_IdOrderByCreatedAt(String postId, Pageable pageable);
+    @EntityGraph(attributePaths = {"writer"})
+    Slice<Comment> findByPost_IdOrderByCreatedAt(String postId, Pageable pageable);
+
+    long countByPost_Id(String postId);
 
     Boolean existsByPostIdAndIsDeletedFalse(String postId);
 
@@ -24,11 +29,4 @@ public interface CommentRepository extends JpaRepository<Comment, String> {
             "and (c.id is null or (c.is_deleted = false and cm.status = 'MEMBER')) ORDER BY p.created_at DESC", nativeQuery = true)
     Page<Comment> findByUserId(@Param("user_id") String userId, Pageable pageable);
 
-    @Query("SELECT DISTINCT p " +
-            "FROM Comment c " +
-            "JOIN c.post p " +
-            "WHERE c.writer.id = :userId AND c.isDeleted = false " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findPostsByUserId(@Param("userId") String userId, Pageable pageable);
-
 }
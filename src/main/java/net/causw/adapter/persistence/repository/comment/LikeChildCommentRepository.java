@@ -2,10 +2,24 @@ package net.causw.adapter.persistence.repository.comment;
 
 import net.causw.adapter.persistence.comment.LikeChildComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface LikeChildCommentRepository extends JpaRepository<LikeChildComment, Long> {
     Boolean existsByChildCommentIdAndUserId(String childCommentId, String userId);
 
     Long countByChildCommentId(String childCommentId);
 
+    // 대댓글 목록의 좋아요 수를 한 번에 조회 (좋아요가 없는 대댓글은 결과에 포함되지 않음)
+    @Query("SELECT lcc.childComment.id AS targetId, COUNT(lcc) AS likeCount FROM LikeChildComment lcc " +
+            "WHERE lcc.childComment.id IN :childCommentIds GROUP BY lcc.childComment.id")
+    List<LikeCountProjection> countByChildCommentIdIn(@Param("childCommentIds") Collection<String> childCommentIds);
+
+    // 대댓글 목록 중 사용자가 좋아요를 누른 대댓글 id 조회
+    @Query("SELECT lcc.childComment.id FROM LikeChildComment lcc WHERE lcc.user.id = :userId AND lcc.childComment.id IN :childCommentIds")
+    List<String> findChildCommentIdsByUserIdAndChildCommentIdIn(@Param("userId") String userId, @Param("childCommentIds") Collection<String> childCommentIds);
+
 }
@@ -2,10 +2,24 @@ package net.causw.adapter.persistence.repository.comment;
 
 import net.causw.adapter.persistence.comment.LikeComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface LikeCommentRepository extends JpaRepository<LikeComment, Long> {
     Boolean existsByCommentIdAndUserId(String commentId, String UserId);
 
     Long countByCommentId(String commentId);
 
+    // 댓글 목록의 좋아요 수를 한 번에 조회 (좋아요가 없는 댓글은 결과에 포함되지 않음)
+    @Query("SELECT lc.comment.id AS targetId, COUNT(lc) AS likeCount FROM LikeComment lc " +
+            "WHERE lc.comment.id IN :commentIds GROUP BY lc.comment.id")
+    List<LikeCountProjection> countByCommentIdIn(@Param("commentIds") Collection<String> commentIds);
+
+    // 댓글 목록 중 사용자가 좋아요를 누른 댓글 id 조회
+    @Query("SELECT lc.comment.id FROM LikeComment lc WHERE lc.user.id = :userId AND lc.comment.id IN :commentIds")
+    List<String> findCommentIdsByUserIdAndCommentIdIn(@Param("userId") String userId, @Param("commentIds") Collection<String> commentIds);
+
 }
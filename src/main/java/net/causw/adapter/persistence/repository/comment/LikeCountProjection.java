@@ -0,0 +1,8 @@
+package net.causw.adapter.persistence.repository.comment;
+
+// 댓글/대댓글 id 별 좋아요 수 집계 결과를 담는 projection (GROUP BY 쿼리 결과)
+public interface LikeCountProjection {
+    String getTargetId();
+
+    Long getLikeCount();
+}
@@ -0,0 +1,10 @@
+package net.causw.adapter.persistence.repository.notification;
+
+// 게시판 구독 여부만 담는 projection (구독자 bitmap 재구성 용도, 사용자/게시판 엔티티를 조회하지 않음)
+public interface BoardSubscriptionProjection {
+    String getBoardId();
+
+    String getUserId();
+
+    Boolean getIsSubscribed();
+}
@@ -0,0 +1,12 @@
+package net.causw.adapter.persistence.repository.notification;
+
+import net.causw.adapter.persistence.notification.NotificationReadMark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationReadMarkRepository extends JpaRepository<NotificationReadMark, String> {
+    Optional<NotificationReadMark> findByUser_Id(String userId);
+}
@@ -1,20 +1,66 @@
 package net.causw.adapter.persistence.repository.notification;
 
 import net.causw.adapter.persistence.notification.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 알림함은 전체 알림, 구독 게시판 알림, 개별 알림의 세 가지 출처를 (createdAt, id) 내림차순 커서로 각각 조회한 뒤 병합합니다.
+ * 각 출처는 별도 인덱스((is_global|board_id|user_id), created_at, id)를 사용하도록 OR 조건 없이 조회합니다.
+ */
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, String> {
-    @Query(
-            value = "SELECT * " +
-                    "FROM tb_notification " +
-                    "WHERE user_id = :userId OR is_global = true " +
-                    "ORDER BY created_at DESC " +
-                    "LIMIT 4", nativeQuery = true)
-    List<Notification> findUserNotice(@Param("userId") String userId);
+
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.isGlobal = true AND n.user IS NULL " +
+            "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findGlobalNotifications(
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") String cursorId,
+            Pageable pageable
+    );
+
+    // 구독 중인 게시판의 알림 중 구독 시점 이후에 생성된 알림 (직접 작성한 게시글의 알림 제외)
+    @Query("SELECT n FROM Notification n, UserBoardSubscribe s " +
+            "WHERE s.user.id = :userId AND s.isSubscribed = true AND n.board = s.board AND n.user IS NULL " +
+            "AND n.createdAt >= s.updatedAt AND (n.writer IS NULL OR n.writer.id <> :userId) " +
+            "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findSubscribedBoardNotifications(
+            @Param("userId") String userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") String cursorId,
+            Pageable pageable
+    );
+
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.user.id = :userId " +
+            "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUserNotifications(
+            @Param("userId") String userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") String cursorId,
+            Pageable pageable
+    );
+
+    @Query("SELECT COUNT(n) FROM Notification n " +
+            "WHERE n.isGlobal = true AND n.user IS NULL AND n.createdAt > :lastReadAt")
+    long countUnreadGlobalNotifications(@Param("lastReadAt") LocalDateTime lastReadAt);
+
+    @Query("SELECT COUNT(n) FROM Notification n, UserBoardSubscribe s " +
+            "WHERE s.user.id = :userId AND s.isSubscribed = true AND n.board = s.board AND n.user IS NULL " +
+            "AND n.createdAt >= s.updatedAt AND (n.writer IS NULL OR n.writer.id <> :userId) AND n.createdAt > :lastReadAt")
+    long countUnreadSubscribedBoardNotifications(@Param("userId") String userId, @Param("lastReadAt") LocalDateTime lastReadAt);
+
+    @Query("SELECT COUNT(n) FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.createdAt > :lastReadAt")
+    long countUnreadUserNotifications(@Param("userId") String userId, @Param("lastReadAt") LocalDateTime lastReadAt);
 }
@@ -2,6 +2,8 @@ package net.causw.adapter.persistence.repository.notification;
 
 import net.causw.adapter.persistence.notification.UserBoardSubscribe;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,5 +13,10 @@ import java.util.Optional;
 public interface UserBoardSubscribeRepository extends JpaRepository<UserBoardSubscribe, String> {
     Optional<UserBoardSubscribe> findByUser_IdAndBoard_Id(String userId, String boardId);
 
-    List<UserBoardSubscribe> findByBoard_Id(String boardId);
+    // 알림 발송 대상 사용자 id만 조회 (구독을 해제한 사용자 제외)
+    @Query("SELECT s.user.id FROM UserBoardSubscribe s WHERE s.board.id = :boardId AND s.isSubscribed = true")
+    List<String> findSubscribedUserIdsByBoard_Id(@Param("boardId") String boardId);
+
+    @Query("SELECT s.board.id AS boardId, s.user.id AS userId, s.isSubscribed AS isSubscribed FROM UserBoardSubscribe s")
+    List<BoardSubscriptionProjection> findAllSubscriptions();
 }
@@ -4,45 +4,191 @@ import net.causw.adapter.persistence.form.Form;
 import net.causw.adapter.persistence.post.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, String> {
-    Page<Post> findAllByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(String boardId, Pageable pageable);
-    Page<Post> findAllByBoard_IdAndIsDeletedOrderByCreatedAtDesc(String boardId, Pageable pageable, boolean IsDeleted);
-    Page<Post> findAllByBoard_IdOrderByCreatedAtDesc(String boardId, Pageable pageable);
+    // 목록 미리보기로 응답하는 본문 앞부분 길이
+    int POST_CONTENT_PREVIEW_LENGTH = 100;
+
+    // 게시글 목록 조회용 select 절: 목록에 표시하는 컬럼만 조회 (본문은 미리보기 길이만큼만, 투표/신청서/게시판 엔티티는 조회하지 않음)
+    String POST_SUMMARY_SELECT = "SELECT p.id AS id, p.title AS title, " +
+            "SUBSTRING(p.content, 1, " + POST_CONTENT_PREVIEW_LENGTH + ") AS content, " +
+            "w.name AS writerName, w.nickname AS writerNickname, w.admissionYear AS writerAdmissionYear, " +
+            "p.isAnonymous AS isAnonymous, p.isQuestion AS isQuestion, p.isDeleted AS isDeleted, " +
+            "p.numComment AS numComment, p.numChildComment AS numChildComment, p.numLike AS numLike, " +
+            "p.numFavorite AS numFavorite, p.numView AS numView, p.vote.id AS voteId, p.form.id AS formId, " +
+            "p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+            "FROM Post p JOIN p.writer w ";
+
+    // native 쿼리용 (POST_SUMMARY_SELECT 와 같은 컬럼)
+    String POST_SUMMARY_NATIVE_COLUMNS = "SELECT p.id AS id, p.title AS title, " +
+            "SUBSTRING(p.content, 1, " + POST_CONTENT_PREVIEW_LENGTH + ") AS content, " +
+            "w.name AS writerName, w.nickname AS writerNickname, w.admission_year AS writerAdmissionYear, " +
+            "p.is_anonymous AS isAnonymous, p.is_question AS isQuestion, p.is_deleted AS isDeleted, " +
+            "p.num_comment AS numComment, p.num_child_comment AS numChildComment, p.num_like AS numLike, " +
+            "p.num_favorite AS numFavorite, p.num_view AS numView, p.vote_id AS voteId, p.form_id AS formId, " +
+            "p.created_at AS createdAt, p.updated_at AS updatedAt ";
+
+    String POST_SUMMARY_NATIVE_SELECT = POST_SUMMARY_NATIVE_COLUMNS +
+            "FROM tb_post AS p JOIN tb_user AS w ON p.user_id = w.id ";
+
+    @Query(POST_SUMMARY_SELECT +
+            "WHERE p.board.id = :boardId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryProjection> findSummariesByBoard_Id(@Param("boardId") String boardId, Pageable pageable);
+
+    long countByBoard_Id(String boardId);
+
+    @Query(POST_SUMMARY_SELECT +
+            "WHERE p.board.id = :boardId AND p.isDeleted = false " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryProjection> findSummariesByBoard_IdAndIsDeletedIsFalse(@Param("boardId") String boardId, Pageable pageable);
+
+    long countByBoard_IdAndIsDeletedIsFalse(String boardId);
+
     Optional<Post> findTop1ByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(String boardId);
-    List<Post> findTop3ByBoard_IdAndIsDeletedOrderByCreatedAtDesc(String boardId, Boolean isDeleted);
 
-    //특정 게시판에서 삭제 여부와 관계없이 title 이 포함된 게시글 검색
-    @Query(value = "SELECT * " +
+    // 삭제된 게시글과 삭제된 게시판의 게시글은 제외
+    @Query(POST_SUMMARY_SELECT +
+            "WHERE p.id IN :ids AND p.isDeleted = false AND p.board.isDeleted = false")
+    List<PostSummaryProjection> findSummariesByIdInAndIsDeletedIsFalse(@Param("ids") Collection<String> ids);
+
+    // 여러 게시판의 최신 게시글 N개씩을 한 번의 쿼리로 조회 (window function 지원 DB: MySQL 8+, H2 2+)
+    @Query(value = "SELECT ranked.id AS id, ranked.title AS title, ranked.board_id AS boardId " +
+            "FROM (" +
+            "SELECT p.id, p.title, p.board_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY p.board_id ORDER BY p.created_at DESC, p.id DESC) AS row_num " +
             "FROM tb_post AS p " +
-            "WHERE p.title LIKE CONCAT('%', :title, '%')AND p.board_id = :boardId ORDER BY p.created_at DESC", nativeQuery = true)
-    Page<Post> findByTitleAndBoard_Id(@Param("title") String title, @Param("boardId") String boardId, Pageable pageable);
+            "WHERE p.board_id IN (:boardIds) AND p.is_deleted = false" +
+            ") AS ranked " +
+            "WHERE ranked.row_num <= :size " +
+            "ORDER BY ranked.board_id, ranked.row_num", nativeQuery = true)
+    List<RecentPostProjection> findRecentPostsByBoardIds(@Param("boardIds") Collection<String> boardIds, @Param("size") int size);
+
+    // window function 을 지원하지 않는 DB 용: 더 최신 게시글이 N개 미만인 게시글만 조회
+    @Query("SELECT p.id AS id, p.title AS title, p.board.id AS boardId FROM Post p " +
+            "WHERE p.board.id IN :boardIds AND p.isDeleted = false " +
+            "AND (SELECT COUNT(newer) FROM Post newer " +
+            "WHERE newer.board = p.board AND newer.isDeleted = false " +
+            "AND (newer.createdAt > p.createdAt OR (newer.createdAt = p.createdAt AND newer.id > p.id))) < :size " +
+            "ORDER BY p.board.id, p.createdAt DESC, p.id DESC")
+    List<RecentPostProjection> findRecentPostsByBoardIdsWithoutWindow(@Param("boardIds") Collection<String> boardIds, @Param("size") long size);
+
+    // 커서(keyset) 기반 페이지네이션: COUNT 쿼리 없이 (createdAt, id) 커서 이후의 게시글을 조회
+    @Query(POST_SUMMARY_SELECT +
+            "WHERE p.board.id = :boardId " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryProjection> findSummariesByBoard_IdAfterCursor(
+            @Param("boardId") String boardId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") String cursorId,
+            Pageable pageable
+    );
+
+    @Query(POST_SUMMARY_SELECT +
+            "WHERE p.board.id = :boardId AND p.isDeleted = false " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryProjection> findSummariesByBoard_IdAndIsDeletedIsFalseAfterCursor(
+            @Param("boardId") String boardId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") String cursorId,
+            Pageable pageable
+    );
+
+    // 사용자가 댓글 또는 대댓글을 작성한 게시글 id (중복 제거는 DB의 UNION으로 처리)
+    // IN (... UNION ...)은 semijoin 최적화가 되지 않아 tb_post 전체를 훑으므로 파생 테이블로 만든 뒤 PK로 조인
+    String COMMENTED_POST_ID_TABLE = "(SELECT c.post_id FROM tb_comment AS c WHERE c.user_id = :userId AND c.is_deleted = false " +
+            "UNION " +
+            "SELECT c.post_id FROM tb_child_comment AS cc JOIN tb_comment AS c ON cc.parent_comment_id = c.id " +
+            "WHERE cc.user_id = :userId AND cc.is_deleted = false) AS t ";
+
+    String COMMENTED_POST_SUMMARY_NATIVE_SELECT = POST_SUMMARY_NATIVE_COLUMNS +
+            "FROM " + COMMENTED_POST_ID_TABLE +
+            "JOIN tb_post AS p ON p.id = t.post_id JOIN tb_user AS w ON p.user_id = w.id ";
+
+    @Query(value = COMMENTED_POST_SUMMARY_NATIVE_SELECT +
+            "ORDER BY p.created_at DESC, p.id DESC",
+            countQuery = "SELECT COUNT(*) FROM " + COMMENTED_POST_ID_TABLE,
+            nativeQuery = true)
+    Page<PostSummaryProjection> findCommentedPostsByUserId(@Param("userId") String userId, Pageable pageable);
+
+    // 커서(keyset) 기반: (createdAt, id) 커서 이후의 게시글을 size개까지 조회
+    @Query(value = COMMENTED_POST_SUMMARY_NATIVE_SELECT +
+            "WHERE (p.created_at < :cursorCreatedAt OR (p.created_at = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.created_at DESC, p.id DESC LIMIT :size",
+            nativeQuery = true)
+    List<PostSummaryProjection> findCommentedPostsByUserIdAfterCursor(
+            @Param("userId") String userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") String cursorId,
+            @Param("size") int size
+    );
+
+    //특정 게시판에서 삭제 여부와 관계없이 title 이 포함된 게시글 검색
+    @Query(value = POST_SUMMARY_NATIVE_SELECT +
+            "WHERE p.title LIKE CONCAT('%', :title, '%')AND p.board_id = :boardId ORDER BY p.created_at DESC",
+            countQuery = "SELECT COUNT(*) " +
+                    "FROM tb_post AS p " +
+                    "WHERE p.title LIKE CONCAT('%', :title, '%')AND p.board_id = :boardId",
+            nativeQuery = true)
+    Page<PostSummaryProjection> findByTitleAndBoard_Id(@Param("title") String title, @Param("boardId") String boardId, Pageable pageable);
 
     //특정 게시판에서 삭제 여부를 고려하여 title 이 포함된 게시글 검색
-    @Query(value = "SELECT * " +
-            "FROM tb_post AS p " +
-            "WHERE p.title LIKE CONCAT('%', :title, '%')AND p.board_id = :boardId AND p.is_deleted = :isDeleted ORDER BY p.created_at DESC", nativeQuery = true)
-    Page<Post> findByTitleBoard_IdAndDeleted(@Param("title") String title, @Param("boardId") String boardId, Pageable pageable, @Param("isDeleted") boolean isDeleted);
+    @Query(value = POST_SUMMARY_NATIVE_SELECT +
+            "WHERE p.title LIKE CONCAT('%', :title, '%')AND p.board_id = :boardId AND p.is_deleted = :isDeleted ORDER BY p.created_at DESC",
+            countQuery = "SELECT COUNT(*) " +
+                    "FROM tb_post AS p " +
+                    "WHERE p.title LIKE CONCAT('%', :title, '%')AND p.board_id = :boardId AND p.is_deleted = :isDeleted",
+            nativeQuery = true)
+    Page<PostSummaryProjection> findByTitleBoard_IdAndDeleted(@Param("title") String title, @Param("boardId") String boardId, Pageable pageable, @Param("isDeleted") boolean isDeleted);
+
+    //특정 게시판에서 삭제 여부와 관계없이 title, content 에 대해 FULLTEXT(ngram) 검색 후 관련도 순으로 정렬
+    @Query(value = POST_SUMMARY_NATIVE_SELECT +
+            "WHERE MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) AND p.board_id = :boardId " +
+            "ORDER BY MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) DESC, p.created_at DESC",
+            countQuery = "SELECT COUNT(*) " +
+                    "FROM tb_post AS p " +
+                    "WHERE MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) AND p.board_id = :boardId",
+            nativeQuery = true)
+    Page<PostSummaryProjection> searchByFullTextAndBoard_Id(@Param("keyword") String keyword, @Param("boardId") String boardId, Pageable pageable);
+
+    //특정 게시판에서 삭제 여부를 고려하여 title, content 에 대해 FULLTEXT(ngram) 검색 후 관련도 순으로 정렬
+    @Query(value = POST_SUMMARY_NATIVE_SELECT +
+            "WHERE MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) AND p.board_id = :boardId AND p.is_deleted = :isDeleted " +
+            "ORDER BY MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) DESC, p.created_at DESC",
+            countQuery = "SELECT COUNT(*) " +
+                    "FROM tb_post AS p " +
+                    "WHERE MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) AND p.board_id = :boardId AND p.is_deleted = :isDeleted",
+            nativeQuery = true)
+    Page<PostSummaryProjection> searchByFullTextAndBoard_IdAndDeleted(@Param("keyword") String keyword, @Param("boardId") String boardId, Pageable pageable, @Param("isDeleted") boolean isDeleted);
 
     // 특정 사용자가 작성한 게시글 검색
-    @Query("SELECT p " +
-            "FROM Post p " +
-            "JOIN p.board b " +
+    String USER_POST_CONDITION = "JOIN p.board b " +
             "LEFT JOIN b.circle c " +
             "LEFT JOIN CircleMember cm ON p.writer.id = cm.user.id AND c.id = cm.circle.id " +
             "WHERE p.writer.id = :user_id AND p.isDeleted = false AND b.isDeleted = false " +
             "AND (c.id IS NULL " +
-            "OR (cm.status = 'MEMBER' AND c.isDeleted = false)) " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByUserId(@Param("user_id") String userId, Pageable pageable);
+            "OR (cm.status = 'MEMBER' AND c.isDeleted = false)) ";
+
+    @Query(POST_SUMMARY_SELECT + USER_POST_CONDITION + "ORDER BY p.createdAt DESC")
+    Slice<PostSummaryProjection> findByUserId(@Param("user_id") String userId, Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM Post p " + USER_POST_CONDITION)
+    long countByUserId(@Param("user_id") String userId);
 
     // fetch join으로 Board까지 가져오기
     @Query(value = "SELECT DISTINCT p FROM Post p JOIN FETCH p.board WHERE p.id = :id")
@@ -62,4 +208,37 @@ public interface PostRepository extends JpaRepository<Post, String> {
     }
 
     Optional<Post> findByForm(Form form);
+
+    // 게시글 집계 컬럼 증감 (read-modify-write 없이 원자적으로 갱신)
+    @Modifying
+    @Query("UPDATE Post p SET p.numLike = p.numLike + :delta WHERE p.id = :postId")
+    void addNumLike(@Param("postId") String postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.numFavorite = p.numFavorite + :delta WHERE p.id = :postId")
+    void addNumFavorite(@Param("postId") String postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.numComment = p.numComment + :delta WHERE p.id = :postId")
+    void addNumComment(@Param("postId") String postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.numChildComment = p.numChildComment + :delta WHERE p.id = :postId")
+    void addNumChildComment(@Param("postId") String postId, @Param("delta") long delta);
+
+    // 집계 컬럼 재계산 범위를 정하기 위한 다음 게시글 id 목록
+    @Query(value = "SELECT p.id FROM tb_post AS p WHERE p.id > :afterId ORDER BY p.id LIMIT :size", nativeQuery = true)
+    List<String> findIdsAfter(@Param("afterId") String afterId, @Param("size") int size);
+
+    // (fromId, toId] 범위 게시글의 집계 컬럼을 실제 데이터 기준으로 재계산 (컬럼 추가 시 backfill 및 누락된 증감 보정용)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE tb_post AS p SET " +
+            "p.num_comment = (SELECT COUNT(*) FROM tb_comment AS c WHERE c.post_id = p.id AND c.is_deleted = false), " +
+            "p.num_child_comment = (SELECT COUNT(*) FROM tb_child_comment AS cc JOIN tb_comment AS c ON cc.parent_comment_id = c.id " +
+            "WHERE c.post_id = p.id AND cc.is_deleted = false), " +
+            "p.num_like = (SELECT COUNT(*) FROM tb_like_post AS lp WHERE lp.post_id = p.id), " +
+            "p.num_favorite = (SELECT COUNT(*) FROM tb_favorite_post AS fp WHERE fp.post_id = p.id AND fp.is_deleted = false) " +
+            "WHERE p.id > :fromId AND p.id <= :toId", nativeQuery = true)
+    int syncCountsInRange(@Param("fromId") String fromId, @Param("toId") String toId);
 }
@@ -0,0 +1,48 @@
+package net.causw.adapter.persistence.repository.post;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 조회 결과를 담는 projection (게시글 본문은 앞부분만, 연관 엔티티는 조회하지 않음)
+public interface PostSummaryProjection {
+    String getId();
+
+    String getTitle();
+
+    // 본문 앞부분 (PostRepository.POST_CONTENT_PREVIEW_LENGTH 글자)
+    String getContent();
+
+    String getWriterName();
+
+    String getWriterNickname();
+
+    Integer getWriterAdmissionYear();
+
+    Boolean getIsAnonymous();
+
+    Boolean getIsQuestion();
+
+    Boolean getIsDeleted();
+
+    Long getNumComment();
+
+    Long getNumChildComment();
+
+    Long getNumLike();
+
+    Long getNumFavorite();
+
+    Long getNumView();
+
+    String getVoteId();
+
+    String getFormId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    // 게시글에 작성된 모든 댓글(댓글 + 대댓글)의 수
+    default Long getNumAllComment() {
+        return getNumComment() + getNumChildComment();
+    }
+}
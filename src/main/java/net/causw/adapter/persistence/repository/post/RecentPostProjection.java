@@ -0,0 +1,10 @@
+package net.causw.adapter.persistence.repository.post;
+
+// 게시판별 최신 게시글 목록 조회 결과를 담는 projection (게시글 본문은 조회하지 않음)
+public interface RecentPostProjection {
+    String getId();
+
+    String getTitle();
+
+    String getBoardId();
+}
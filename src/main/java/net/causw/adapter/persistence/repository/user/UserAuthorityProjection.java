@@ -0,0 +1,18 @@
+package net.causw.adapter.persistence.repository.user;
+
+import net.causw.domain.model.enums.user.Role;
+import net.causw.domain.model.enums.user.UserState;
+import net.causw.domain.model.enums.userAcademicRecord.AcademicStatus;
+
+// 인증/인가에 필요한 사용자 정보 projection (역할마다 한 행)
+public interface UserAuthorityProjection {
+    String getId();
+
+    String getName();
+
+    UserState getState();
+
+    AcademicStatus getAcademicStatus();
+
+    Role getRole();
+}
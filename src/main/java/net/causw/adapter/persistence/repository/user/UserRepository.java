@@ -34,6 +34,11 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     Optional<User> findById(String id);
 
+    // 인증에 필요한 컬럼과 역할만 조회 (프로필 이미지, 사물함 등 EAGER 연관 엔티티는 조회하지 않음)
+    @Query("SELECT u.id AS id, u.name AS name, u.state AS state, u.academicStatus AS academicStatus, r AS role " +
+            "FROM User u LEFT JOIN u.roles r WHERE u.id = :id")
+    List<UserAuthorityProjection> findAuthoritiesById(@Param("id") String id);
+
     List<User> findByName(String name);
 
     List<User> findAllByState(UserState state);
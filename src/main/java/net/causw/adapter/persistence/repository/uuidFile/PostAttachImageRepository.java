@@ -2,8 +2,26 @@ package net.causw.adapter.persistence.repository.uuidFile;
 
 import net.causw.adapter.persistence.uuidFile.joinEntity.PostAttachImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PostAttachImageRepository extends JpaRepository<PostAttachImage, Long> {
+    // 여러 게시글의 첫 번째 이미지 첨부파일(썸네일)을 파일 정보와 함께 한 번에 조회 (게시글당 최대 1건)
+    // 확장자가 extensions 에 속한 첨부파일 중 (createdAt, id) 가 가장 앞선 것만 선택
+    @Query("SELECT pai FROM PostAttachImage pai " +
+            "JOIN FETCH pai.uuidFile uf " +
+            "WHERE pai.post.id IN :postIds AND uf.extension IN :extensions " +
+            "AND NOT EXISTS (" +
+            "SELECT earlier.id FROM PostAttachImage earlier JOIN earlier.uuidFile earlierFile " +
+            "WHERE earlier.post.id = pai.post.id AND earlierFile.extension IN :extensions " +
+            "AND (earlier.createdAt < pai.createdAt OR (earlier.createdAt = pai.createdAt AND earlier.id < pai.id)))")
+    List<PostAttachImage> findFirstByPost_IdInAndExtensionIn(
+            @Param("postIds") Collection<String> postIds,
+            @Param("extensions") Collection<String> extensions
+    );
 }
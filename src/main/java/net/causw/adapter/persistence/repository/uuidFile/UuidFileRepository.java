@@ -1,9 +1,13 @@
 package net.causw.adapter.persistence.repository.uuidFile;
 
 import net.causw.adapter.persistence.uuidFile.UuidFile;
+import net.causw.domain.model.enums.uuidFile.ImageVariant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +16,13 @@ public interface UuidFileRepository extends JpaRepository<UuidFile, String> {
 
     Optional<UuidFile> findByFileUrl(String fileUrl);
 
-    List<UuidFile> findAllByIsUsed(Boolean isUsed);
+    // 사용하지 않는 파일 (원본 파일을 사용 중인 파생 파일은 제외)
+    @Query("SELECT uf FROM UuidFile uf LEFT JOIN uf.original o " +
+            "WHERE uf.isUsed = false AND (o IS NULL OR o.isUsed = false)")
+    List<UuidFile> findAllNotUsed();
+
+    List<UuidFile> findAllByOriginal_Id(String originalId);
+
+    List<UuidFile> findAllByOriginal_IdInAndImageVariant(Collection<String> originalIds, ImageVariant imageVariant);
 
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import net.causw.adapter.persistence.base.BaseEntity;
 import net.causw.domain.model.enums.uuidFile.FilePath;
+import net.causw.domain.model.enums.uuidFile.ImageVariant;
 import org.hibernate.annotations.ColumnDefault;
 
 @Getter
@@ -11,7 +12,9 @@ import org.hibernate.annotations.ColumnDefault;
 @Builder(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "tb_uuid_file")
+@Table(name = "tb_uuid_file", indexes = {
+        @Index(name = "original_uuid_file_id_index", columnList = "original_uuid_file_id")
+})
 public class UuidFile extends BaseEntity {
 
     @Column(name = "uuid", unique = true, nullable = false)
@@ -40,6 +43,15 @@ public class UuidFile extends BaseEntity {
     @Column(name = "is_used", nullable = false)
     private Boolean isUsed = Boolean.TRUE;
 
+    // 썸네일 등 원본 이미지로부터 생성한 파생 파일인 경우의 원본 파일 (원본 파일은 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "original_uuid_file_id")
+    private UuidFile original;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_variant")
+    private ImageVariant imageVariant;
+
     public static UuidFile of(String uuid, String fileKey, String fileUrl, String rawFileName, String extension, FilePath filePath) {
         return UuidFile.builder()
                 .uuid(uuid)
@@ -51,4 +63,18 @@ public class UuidFile extends BaseEntity {
                 .build();
     }
 
+    public static UuidFile of(UuidFile original, ImageVariant imageVariant, String uuid, String fileKey, String fileUrl, String rawFileName, String extension) {
+        return UuidFile.builder()
+                .uuid(uuid)
+                .fileKey(fileKey)
+                .fileUrl(fileUrl)
+                .rawFileName(rawFileName)
+                .extension(extension)
+                .filePath(original.getFilePath())
+                .isUsed(original.getIsUsed())
+                .original(original)
+                .imageVariant(imageVariant)
+                .build();
+    }
+
 }
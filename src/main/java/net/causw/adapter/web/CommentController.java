@@ -11,6 +11,8 @@ import net.causw.application.comment.CommentService;
 import net.causw.application.dto.comment.CommentCreateRequestDto;
 import net.causw.application.dto.comment.CommentResponseDto;
 import net.causw.application.dto.comment.CommentUpdateRequestDto;
+import net.causw.application.dto.reaction.ReactionResponseDto;
+import net.causw.application.pageable.PageTotalMode;
 import net.causw.config.security.userdetails.CustomUserDetails;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.UnauthorizedException;
@@ -61,10 +63,11 @@ public class CommentController {
     public Page<CommentResponseDto> findAllComments(
             @RequestParam("postId") String postId,
             @RequestParam(name = "pageNum", defaultValue = "0") Integer pageNum,
+            @RequestParam(name = "pageTotalMode", defaultValue = "EXACT") PageTotalMode pageTotalMode, // 전체 개수 계산 방식 (EXACT, APPROXIMATE, NONE)
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        return this.commentService.findAllComments(userDetails.getUser(), postId, pageNum);
+        return this.commentService.findAllComments(userDetails.getUser(), postId, pageNum, pageTotalMode);
     }
 
     @PostMapping
@@ -172,7 +175,7 @@ public class CommentController {
     @PostMapping(value = "/{id}/like")
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
-    @Operation(summary = "댓글 좋아요 저장 API(완료)", description = "특정 유저가 특정 댓글에 좋아요를 누른 걸 저장하는 Api 입니다.")
+    @Operation(summary = "댓글 좋아요 저장 API(완료)", description = "특정 유저가 특정 댓글에 좋아요를 누른 걸 저장하는 Api 입니다. 이미 좋아요를 누른 경우에도 오류 없이 현재 상태와 좋아요 수를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Created", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "4000", description = "로그인된 사용자를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
@@ -184,11 +187,30 @@ public class CommentController {
             @ApiResponse(responseCode = "4104", description = "대기 중인 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
             @ApiResponse(responseCode = "4012", description = "접근 권한이 없습니다. 다시 로그인 해주세요. 문제 반복시 관리자에게 문의해주세요.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
     })
-    public void likeComment(
+    public ReactionResponseDto likeComment(
             @PathVariable("id") String id,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        this.commentService.likeComment(userDetails.getUser(), id);
+        return this.commentService.likeComment(userDetails.getUser(), id);
+    }
+
+    @DeleteMapping(value = "/{id}/like")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    @Operation(summary = "댓글 좋아요 취소 API", description = "특정 유저가 특정 댓글에 누른 좋아요를 취소하는 Api 입니다. 이미 취소된 경우에도 오류 없이 현재 상태와 좋아요 수를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReactionResponseDto.class))),
+            @ApiResponse(responseCode = "4000", description = "댓글을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
+            @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4104", description = "대기 중인 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4012", description = "접근 권한이 없습니다. 다시 로그인 해주세요. 문제 반복시 관리자에게 문의해주세요.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
+    })
+    public ReactionResponseDto cancelLikeComment(
+            @PathVariable("id") String id,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return this.commentService.cancelLikeComment(userDetails.getUser(), id);
     }
 
 }
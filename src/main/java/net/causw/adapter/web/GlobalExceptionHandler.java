@@ -7,6 +7,7 @@ import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.UnauthorizedException;
 import net.causw.domain.exceptions.ServiceUnavailableException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.security.access.AccessDeniedException;
 
@@ -67,8 +69,14 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(value = {ServiceUnavailableException.class})
     @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
-    public ExceptionDto handleServiceUnavailableException(ServiceUnavailableException exception) {
-        GlobalExceptionHandler.log.error("error message", exception);
+    public ExceptionDto handleServiceUnavailableException(ServiceUnavailableException exception, HttpServletResponse response) {
+        if (exception.getRetryAfterSeconds() == null) {
+            GlobalExceptionHandler.log.error("error message", exception);
+        } else {
+            // 부하로 인한 의도된 거절(Retry-After)은 stack trace 없이 기록
+            GlobalExceptionHandler.log.warn("load shed: {}", exception.getMessage());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()));
+        }
         return ExceptionDto.of(exception.getErrorCode(), exception.getMessage());
     }
 
@@ -2,14 +2,21 @@ package net.causw.adapter.web;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import net.causw.application.dto.notification.NotificationInboxResponseDto;
 import net.causw.application.dto.notification.NotificationResponseDto;
+import net.causw.application.notification.NotificationPushService;
 import net.causw.application.notification.NotificationService;
 import net.causw.config.security.userdetails.CustomUserDetails;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,6 +24,7 @@ import java.util.List;
 @RequestMapping("/api/v1/notifications")
 public class NotificationController {
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
@@ -26,6 +34,38 @@ public class NotificationController {
         return notificationService.findUserNotice(userDetails.getUser());
     }
 
+    @GetMapping("/inbox")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "알림함 조회", description = "전체/구독 게시판/개인 알림을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursorCreatedAt, nextCursorId로 조회합니다.")
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    public NotificationInboxResponseDto findInbox(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(name = "cursorCreatedAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(name = "cursorId", required = false) String cursorId
+    ) {
+        return notificationService.findInbox(userDetails.getUser(), cursorCreatedAt, cursorId);
+    }
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "실시간 알림 구독", description = "SSE로 새 알림을 실시간으로 전송받습니다. 연결이 끊기면 재연결 후 알림함을 다시 조회합니다.")
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    public SseEmitter subscribeNotice(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletResponse response
+    ) {
+        // 프록시(nginx)가 이벤트를 버퍼링하지 않도록 설정
+        response.setHeader("X-Accel-Buffering", "no");
+        return notificationPushService.connect(userDetails.getUser());
+    }
+
+    @PutMapping("/read")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "알림 모두 읽음 처리", description = "현재 시각까지의 알림을 모두 읽음 처리합니다.")
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    public void readAllNotice(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        notificationService.readAllNotice(userDetails.getUser());
+    }
+
     @PutMapping("/{boardId}")
     @Operation(summary = "알림 설정 변경", description = "알림 설정을 변경합니다.")
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
@@ -8,17 +8,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import net.causw.application.dto.post.*;
+import net.causw.application.dto.reaction.ReactionResponseDto;
+import net.causw.application.pageable.PageTotalMode;
 import net.causw.application.post.PostService;
 import net.causw.config.security.userdetails.CustomUserDetails;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.exceptions.UnauthorizedException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -81,16 +85,70 @@ public class PostController {
     public BoardPostsResponseDto findAllPost(
             @RequestParam("boardId") String boardId, // 게시판 id
             @RequestParam(name = "pageNum", defaultValue = "0") Integer pageNum, // PageNation
+            @RequestParam(name = "pageTotalMode", defaultValue = "EXACT") PageTotalMode pageTotalMode, // 전체 개수 계산 방식 (EXACT, APPROXIMATE, NONE)
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return this.postService.findAllPost(userDetails.getUser(), boardId, pageNum);
+        return this.postService.findAllPost(userDetails.getUser(), boardId, pageNum, pageTotalMode);
+    }
+
+    @GetMapping("/cursor")
+    @ResponseStatus(value = HttpStatus.OK)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    @Operation(summary = "게시글 커서 기반 조회 API",
+            description = "무한 스크롤용 게시글 조회 API로, 마지막으로 조회한 게시글의 생성 시간과 id를 커서로 전달하면 그 다음 게시글 20개를 조회합니다. 커서를 생략하면 첫 페이지를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
+    @ApiResponse(responseCode = "4000", description = "게시판을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
+    @ApiResponse(responseCode = "4002", description = "게시글 커서는 생성 시간과 id를 함께 전달해야 합니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
+    @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
+    @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
+    @ApiResponse(responseCode = "4108", description = "로그인된 사용자가 동아리 멤버가 아닙니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
+    @ApiResponse(responseCode = "4004", description = "삭제된 동아리입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
+    public BoardPostsCursorResponseDto findAllPostByCursor(
+            @RequestParam("boardId") String boardId,
+            @RequestParam(name = "cursorCreatedAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(name = "cursorId", required = false) String cursorId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return this.postService.findAllPostByCursor(userDetails.getUser(), boardId, cursorCreatedAt, cursorId);
+    }
+
+    @GetMapping("/hot")
+    @ResponseStatus(value = HttpStatus.OK)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    @Operation(summary = "전체 인기 게시글 조회 API",
+            description = "최근 좋아요, 즐겨찾기, 댓글, 대댓글 활동이 많은 게시글을 최대 10개 조회합니다. 오래된 활동일수록 점수가 낮게 반영되며, 동아리 게시판의 게시글은 제외됩니다.")
+    @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
+    @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
+    @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
+    public List<PostsResponseDto> findHotPosts(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return this.postService.findHotPosts(userDetails.getUser());
+    }
+
+    @GetMapping("/hot/board")
+    @ResponseStatus(value = HttpStatus.OK)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    @Operation(summary = "게시판 인기 게시글 조회 API",
+            description = "해당 게시판에서 최근 좋아요, 즐겨찾기, 댓글, 대댓글 활동이 많은 게시글을 최대 10개 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
+    @ApiResponse(responseCode = "4000", description = "게시판을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
+    @ApiResponse(responseCode = "4004", description = "삭제된 게시판입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
+    @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
+    @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
+    @ApiResponse(responseCode = "4108", description = "로그인된 사용자가 동아리 멤버가 아닙니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class)))
+    public List<PostsResponseDto> findHotPostsByBoard(
+            @RequestParam("boardId") String boardId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return this.postService.findHotPostsByBoard(userDetails.getUser(), boardId);
     }
 
     @GetMapping("/search")
     @ResponseStatus(value = HttpStatus.OK)
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
     @Operation(summary = "게시글 검색 API(완료)",
-            description = "게시글을 검색하는 API로 제목의 연관검색어로 검색 가능합니다.")
+            description = "게시글을 검색하는 API로 제목과 내용에 대해 검색 가능하며, 관련도 순으로 정렬됩니다. (검색어가 2글자 미만이면 제목의 연관검색어로 검색)")
     @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
     @ApiResponse(responseCode = "4000", description = "로그인된 사용자를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
     @ApiResponse(responseCode = "4000", description = "게시글을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class)))
@@ -121,9 +179,10 @@ public class PostController {
     @Operation(summary = "앱 자체 공지사항 확인 API(프론트에 없음)", description = "현재 프론트단에 코드가 존재하지 않습니다")
     public BoardPostsResponseDto findAllAppNotice(
             @RequestParam(name = "pageNum", defaultValue = "0") Integer pageNum,
+            @RequestParam(name = "pageTotalMode", defaultValue = "EXACT") PageTotalMode pageTotalMode, // 전체 개수 계산 방식 (EXACT, APPROXIMATE, NONE)
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return this.postService.findAllAppNotice(userDetails.getUser(), pageNum);
+        return this.postService.findAllAppNotice(userDetails.getUser(), pageNum, pageTotalMode);
     }
 
     @PostMapping
@@ -342,35 +401,53 @@ public class PostController {
     @ResponseStatus(value = HttpStatus.CREATED)
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
     @Operation(summary = "게시글 좋아요 저장 API(완료)",
-            description = "특정 유저가 특정 게시글에 좋아요를 누른 걸 저장하는 Api 입니다.")
+            description = "특정 유저가 특정 게시글에 좋아요를 누른 걸 저장하는 Api 입니다. 이미 좋아요를 누른 경우에도 오류 없이 현재 상태와 좋아요 수를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Created", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))),
             @ApiResponse(responseCode = "4000", description = "로그인된 사용자를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
             @ApiResponse(responseCode = "4000", description = "게시글을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
-            @ApiResponse(responseCode = "4001", description = "좋아요를 이미 누른 게시글입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
             @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
             @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
             @ApiResponse(responseCode = "4104", description = "대기 중인 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
             @ApiResponse(responseCode = "4109", description = "가입이 거절된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
             @ApiResponse(responseCode = "4012", description = "접근 권한이 없습니다. 다시 로그인 해주세요. 문제 반복시 관리자에게 문의해주세요.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
     })
-    public void likePost(
+    public ReactionResponseDto likePost(
+            @PathVariable("id") String id,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ){
+        return this.postService.likePost(userDetails.getUser(), id);
+    }
+
+    @DeleteMapping(value ="/{id}/like" )
+    @ResponseStatus(value = HttpStatus.OK)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    @Operation(summary = "게시글 좋아요 취소 API",
+            description = "특정 유저가 특정 게시글에 누른 좋아요를 취소하는 Api 입니다. 이미 취소된 경우에도 오류 없이 현재 상태와 좋아요 수를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReactionResponseDto.class))),
+            @ApiResponse(responseCode = "4000", description = "게시글을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
+            @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4104", description = "대기 중인 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4012", description = "접근 권한이 없습니다. 다시 로그인 해주세요. 문제 반복시 관리자에게 문의해주세요.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
+    })
+    public ReactionResponseDto cancelLikePost(
             @PathVariable("id") String id,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ){
-        this.postService.likePost(userDetails.getUser(), id);
+        return this.postService.cancelLikePost(userDetails.getUser(), id);
     }
 
     @PostMapping(value ="/{id}/favorite" )
     @ResponseStatus(value = HttpStatus.CREATED)
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
     @Operation(summary = "게시글 즐겨찾기 저장 API(완료)",
-            description = "특정 유저가 특정 게시글에 즐겨찾기를 누른 걸 저장하는 Api 입니다.")
+            description = "특정 유저가 특정 게시글에 즐겨찾기를 누른 걸 저장하는 Api 입니다. 이미 즐겨찾기한 경우에도 오류 없이 현재 상태와 즐겨찾기 수를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Created", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))),
             @ApiResponse(responseCode = "4000", description = "로그인된 사용자를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
             @ApiResponse(responseCode = "4000", description = "게시글을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
-            @ApiResponse(responseCode = "4001", description = "즐겨찾기를 이미 누른 게시글입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
             @ApiResponse(responseCode = "4004", description = "삭제된 게시글입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
             @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
             @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
@@ -378,24 +455,22 @@ public class PostController {
             @ApiResponse(responseCode = "4109", description = "가입이 거절된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
             @ApiResponse(responseCode = "4012", description = "접근 권한이 없습니다. 다시 로그인 해주세요. 문제 반복시 관리자에게 문의해주세요.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
     })
-    public void favoritePost(
+    public ReactionResponseDto favoritePost(
             @PathVariable("id") String id,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ){
-        this.postService.favoritePost(userDetails.getUser(), id);
+        return this.postService.favoritePost(userDetails.getUser(), id);
     }
 
     @PutMapping(value ="/{id}/favorite" )
     @ResponseStatus(value = HttpStatus.OK)
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
     @Operation(summary = "게시글 즐겨찾기 취소 API(완료)",
-            description = "특정 유저가 특정 게시글에 즐겨찾기를 누른 걸 취소하는 Api 입니다.")
+            description = "특정 유저가 특정 게시글에 즐겨찾기를 누른 걸 취소하는 Api 입니다. 이미 취소된 경우에도 오류 없이 현재 상태와 즐겨찾기 수를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))),
             @ApiResponse(responseCode = "4000", description = "로그인된 사용자를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
             @ApiResponse(responseCode = "4000", description = "게시글을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
-            @ApiResponse(responseCode = "4000", description = "즐겨찾기가 되어 있지 않습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
-            @ApiResponse(responseCode = "4000", description = "즐겨찾기가 이미 취소되어 있습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
             @ApiResponse(responseCode = "4004", description = "삭제된 게시글입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
             @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
             @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
@@ -403,11 +478,11 @@ public class PostController {
             @ApiResponse(responseCode = "4109", description = "가입이 거절된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
             @ApiResponse(responseCode = "4012", description = "접근 권한이 없습니다. 다시 로그인 해주세요. 문제 반복시 관리자에게 문의해주세요.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
     })
-    public void cancelFavoritePost(
+    public ReactionResponseDto cancelFavoritePost(
             @PathVariable("id") String id,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ){
-        this.postService.cancelFavoritePost(userDetails.getUser(), id);
+        return this.postService.cancelFavoritePost(userDetails.getUser(), id);
     }
 
 
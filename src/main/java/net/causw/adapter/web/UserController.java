@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import net.causw.application.dto.user.*;
+import net.causw.application.pageable.PageTotalMode;
 import net.causw.application.user.UserService;
 import net.causw.application.dto.duplicate.DuplicatedCheckResponseDto;
 import net.causw.application.dto.circle.CircleResponseDto;
@@ -17,12 +18,14 @@ import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.UnauthorizedException;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -87,9 +90,10 @@ public class UserController {
     @Operation(summary = "(구)로그인한 사용자의 게시글 조회 API(삭제 예정 -> posts/written으로 변경)")
     public UserPostsResponseDto findPosts(
             @RequestParam(name = "pageNum", defaultValue = "0") Integer pageNum,
+            @RequestParam(name = "pageTotalMode", defaultValue = "EXACT") PageTotalMode pageTotalMode, // 전체 개수 계산 방식 (EXACT, APPROXIMATE, NONE)
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return this.userService.findPosts(userDetails.getUser(), pageNum);
+        return this.userService.findPosts(userDetails.getUser(), pageNum, pageTotalMode);
     }
 
     @GetMapping(value = "/posts/written")
@@ -108,9 +112,10 @@ public class UserController {
     })
     public UserPostsResponseDto findMyWrittenPosts(
             @RequestParam(name = "pageNum", defaultValue = "0") Integer pageNum,
+            @RequestParam(name = "pageTotalMode", defaultValue = "EXACT") PageTotalMode pageTotalMode, // 전체 개수 계산 방식 (EXACT, APPROXIMATE, NONE)
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return this.userService.findPosts(userDetails.getUser(), pageNum);
+        return this.userService.findPosts(userDetails.getUser(), pageNum, pageTotalMode);
     }
 
     @GetMapping(value = "/posts/favorite")
@@ -129,9 +134,10 @@ public class UserController {
     })
     public UserPostsResponseDto findMyFavoritePosts(
             @RequestParam(name = "pageNum", defaultValue = "0") Integer pageNum,
+            @RequestParam(name = "pageTotalMode", defaultValue = "EXACT") PageTotalMode pageTotalMode, // 전체 개수 계산 방식 (EXACT, APPROXIMATE, NONE)
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        return this.userService.findFavoritePosts(userDetails.getUser(), pageNum);
+        return this.userService.findFavoritePosts(userDetails.getUser(), pageNum, pageTotalMode);
     }
 
     @GetMapping(value = "/comments/written")
@@ -155,6 +161,28 @@ public class UserController {
         return this.userService.findCommentedPosts(userDetails.getUser(), pageNum);
     }
 
+    @GetMapping(value = "/comments/written/cursor")
+    @ResponseStatus(value = HttpStatus.OK)
+    @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
+    @Operation(summary = "로그인한 사용자가 작성한 댓글들의 게시물 기록 커서 기반 조회 API",
+            description = "(생성 시간, id) 커서 이후의 게시물을 조회합니다. 첫 페이지는 커서 없이 요청하고, 이후에는 응답의 nextCursorCreatedAt, nextCursorId를 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "4000", description = "로그인된 사용자를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
+            @ApiResponse(responseCode = "4002", description = "게시글 커서는 생성 시간과 id를 함께 전달해야 합니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BadRequestException.class))),
+            @ApiResponse(responseCode = "4102", description = "추방된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4103", description = "비활성화된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4104", description = "대기 중인 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+            @ApiResponse(responseCode = "4109", description = "가입이 거절된 사용자 입니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UnauthorizedException.class))),
+    })
+    public UserPostsCursorResponseDto findMyCommentedPostsByCursor(
+            @RequestParam(name = "cursorCreatedAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(name = "cursorId", required = false) String cursorId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return this.userService.findCommentedPostsByCursor(userDetails.getUser(), cursorCreatedAt, cursorId);
+    }
+
     @GetMapping(value = "/comments")
     @ResponseStatus(value = HttpStatus.OK)
     @PreAuthorize("@securityService.isActiveAndNotNoneUserAndAcademicRecordCertified()")
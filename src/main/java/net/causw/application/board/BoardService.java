@@ -9,7 +9,7 @@ import net.causw.adapter.persistence.repository.board.BoardApplyRepository;
 import net.causw.adapter.persistence.repository.board.BoardRepository;
 import net.causw.adapter.persistence.repository.circle.CircleMemberRepository;
 import net.causw.adapter.persistence.repository.circle.CircleRepository;
-import net.causw.adapter.persistence.repository.post.PostRepository;
+import net.causw.adapter.persistence.repository.post.RecentPostProjection;
 import net.causw.adapter.persistence.repository.user.UserRepository;
 import net.causw.adapter.persistence.user.User;
 import net.causw.application.dto.board.*;
@@ -18,6 +18,7 @@ import net.causw.application.dto.user.UserResponseDto;
 import net.causw.application.dto.util.dtoMapper.BoardDtoMapper;
 import net.causw.application.dto.util.dtoMapper.PostDtoMapper;
 import net.causw.application.dto.util.dtoMapper.UserDtoMapper;
+import net.causw.application.post.RecentPostLoader;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
@@ -47,7 +48,7 @@ import java.util.stream.Stream;
 @Service
 @RequiredArgsConstructor
 public class BoardService {
-    private final PostRepository postRepository;
+    private final RecentPostLoader recentPostLoader;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final CircleRepository circleRepository;
@@ -130,9 +131,14 @@ public class BoardService {
             }
         }
 
+        Map<String, List<RecentPostProjection>> recentPostsByBoardId = recentPostLoader.findRecentPosts(
+                boards.stream().map(Board::getId).toList(),
+                StaticValue.MAIN_BOARD_RECENT_POST_SIZE
+        );
+
         return boards.stream()
                 .map(board -> {
-                    List<PostContentDto> recentPosts = postRepository.findTop3ByBoard_IdAndIsDeletedOrderByCreatedAtDesc(board.getId(), false).stream()
+                    List<PostContentDto> recentPosts = recentPostsByBoardId.getOrDefault(board.getId(), List.of()).stream()
                             .map(PostDtoMapper.INSTANCE::toPostContentDto)
                             .collect(Collectors.toList());
                     return BoardDtoMapper.INSTANCE.toBoardMainResponseDto(board, recentPosts);
@@ -0,0 +1,49 @@
+package net.causw.application.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.repository.board.FavoriteBoardRepository;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자별 즐겨찾기 게시판 id 집합을 Redis set으로 캐시합니다.
+ * 캐시가 있으면 SISMEMBER 한 번으로 확인하고, 없으면 게시판 id만 조회하여 캐시를 채웁니다.
+ * 즐겨찾기를 변경하는 곳에서는 evict를 호출해야 하며, 그렇지 않더라도 FAVORITE_BOARD_CACHE_TTL 이후에는 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoriteBoardCache {
+
+    private final RedisUtils redisUtils;
+    private final FavoriteBoardRepository favoriteBoardRepository;
+
+    public boolean isFavorite(String userId, String boardId) {
+        try {
+            Boolean isFavorite = redisUtils.isFavoriteBoard(userId, boardId);
+            if (isFavorite != null) {
+                return isFavorite;
+            }
+
+            List<String> boardIds = favoriteBoardRepository.findBoardIdsByUser_Id(userId);
+            redisUtils.setFavoriteBoards(userId, boardIds, StaticValue.FAVORITE_BOARD_CACHE_TTL);
+            return boardIds.contains(boardId);
+        } catch (Exception e) {
+            // Redis를 사용할 수 없으면 해당 게시판만 DB에서 확인
+            log.warn("Failed to read favorite board cache: {}", e.getMessage());
+            return favoriteBoardRepository.existsByUser_IdAndBoard_IdAndBoard_IsDeletedFalse(userId, boardId);
+        }
+    }
+
+    public void evict(String userId) {
+        try {
+            redisUtils.deleteFavoriteBoards(userId);
+        } catch (Exception e) {
+            log.warn("Failed to evict favorite board cache: {}", e.getMessage());
+        }
+    }
+}
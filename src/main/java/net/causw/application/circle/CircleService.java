@@ -174,7 +174,7 @@ public class CircleService {
                                             board,
                                             roles,
                                             post,
-                                            postRepository.countAllCommentByPost_Id(post.getId())
+                                            post.getNumAllComment()
                                     )).orElse(
                                         this.toBoardOfCircleResponseDto(
                                                     board,
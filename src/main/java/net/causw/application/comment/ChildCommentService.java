@@ -6,7 +6,6 @@ import net.causw.adapter.persistence.circle.Circle;
 import net.causw.adapter.persistence.circle.CircleMember;
 import net.causw.adapter.persistence.comment.ChildComment;
 import net.causw.adapter.persistence.comment.Comment;
-import net.causw.adapter.persistence.comment.LikeChildComment;
 import net.causw.adapter.persistence.notification.Notification;
 import net.causw.adapter.persistence.post.Post;
 import net.causw.adapter.persistence.repository.circle.CircleMemberRepository;
@@ -17,6 +16,11 @@ import net.causw.adapter.persistence.repository.notification.NotificationReposit
 import net.causw.adapter.persistence.repository.post.PostRepository;
 import net.causw.adapter.persistence.repository.user.UserRepository;
 import net.causw.adapter.persistence.user.User;
+import net.causw.application.dto.reaction.ReactionResponseDto;
+import net.causw.application.notification.NotificationPushMessage;
+import net.causw.application.post.PostEngagementEvent;
+import net.causw.application.reaction.ReactionService;
+import net.causw.application.reaction.ReactionType;
 import net.causw.application.dto.comment.ChildCommentCreateRequestDto;
 import net.causw.application.dto.comment.ChildCommentResponseDto;
 import net.causw.application.dto.comment.ChildCommentUpdateRequestDto;
@@ -30,9 +34,11 @@ import net.causw.domain.exceptions.UnauthorizedException;
 import net.causw.domain.model.enums.circle.CircleMemberStatus;
 import net.causw.domain.model.enums.user.Role;
 import net.causw.domain.model.enums.notification.NoticeType;
+import net.causw.domain.model.enums.post.PostEngagementType;
 import net.causw.domain.model.util.MessageUtil;
 import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.validation.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,6 +60,8 @@ public class ChildCommentService {
     private final LikeChildCommentRepository likeChildCommentRepository;
     private final NotificationRepository notificationRepository;
     private final Validator validator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ReactionService reactionService;
 
     @Transactional
     public ChildCommentResponseDto createChildComment(User creator, ChildCommentCreateRequestDto childCommentCreateRequestDto) {
@@ -73,8 +81,9 @@ public class ChildCommentService {
                 .consistOf(UserStateIsDeletedValidator.of(parentComment.getWriter().getState()));
         validatorBucket.validate();
 
-        if (!creator.getId().equals(childComment.getWriter().getId())) {
-            notificationRepository.save(
+        // 자신의 댓글에 단 답글은 알리지 않음
+        if (!creator.getId().equals(parentComment.getWriter().getId())) {
+            Notification notification = notificationRepository.save(
                     Notification.of(
                             parentComment.getWriter(),
                             childComment.getContent(),
@@ -82,10 +91,15 @@ public class ChildCommentService {
                             false
                     )
             );
+            applicationEventPublisher.publishEvent(NotificationPushMessage.of(notification));
         }
 
+        ChildComment savedChildComment = childCommentRepository.save(childComment);
+        postRepository.addNumChildComment(post.getId(), 1);
+        applicationEventPublisher.publishEvent(PostEngagementEvent.of(post, PostEngagementType.CHILD_COMMENT, savedChildComment.getId()));
+
         return toChildCommentResponseDto(
-                childCommentRepository.save(childComment),
+                savedChildComment,
                 creator,
                 post.getBoard()
         );
@@ -176,6 +190,8 @@ public class ChildCommentService {
         validatorBucket.validate();
 
         childComment.delete();
+        postRepository.addNumChildComment(post.getId(), -1);
+        applicationEventPublisher.publishEvent(PostEngagementEvent.canceled(post, PostEngagementType.CHILD_COMMENT, childComment.getId()));
 
         return toChildCommentResponseDto(
                 childCommentRepository.save(childComment),
@@ -185,7 +201,7 @@ public class ChildCommentService {
     }
 
     @Transactional
-    public void likeChildComment(User user, String childCommentId) {
+    public ReactionResponseDto likeChildComment(User user, String childCommentId) {
         ChildComment childComment = getChildComment(childCommentId);
 
         ValidatorBucket validatorBucket = ValidatorBucket.of();
@@ -193,16 +209,13 @@ public class ChildCommentService {
                 .consistOf(UserStateIsDeletedValidator.of(childComment.getWriter().getState()))
                 .validate();
 
-        if (isChildCommentAlreadyLike(user, childCommentId)) {
-            throw new BadRequestException(ErrorCode.ROW_ALREADY_EXIST, MessageUtil.CHILD_COMMENT_ALREADY_LIKED);
-        }
-
-        LikeChildComment likeChildComment = LikeChildComment.of(childComment, user);
-        likeChildCommentRepository.save(likeChildComment);
+        return ReactionResponseDto.of(reactionService.react(ReactionType.CHILD_COMMENT_LIKE, childCommentId, user.getId()));
     }
 
-    private Boolean isChildCommentAlreadyLike(User user, String childCommentId) {
-        return likeChildCommentRepository.existsByChildCommentIdAndUserId(childCommentId, user.getId());
+    @Transactional
+    public ReactionResponseDto cancelLikeChildComment(User user, String childCommentId) {
+        getChildComment(childCommentId);
+        return ReactionResponseDto.of(reactionService.cancel(ReactionType.CHILD_COMMENT_LIKE, childCommentId, user.getId()));
     }
 
     private Long getNumOfChildCommentLikes(ChildComment childComment) {
@@ -238,7 +251,7 @@ public class ChildCommentService {
         return CommentDtoMapper.INSTANCE.toChildCommentResponseDto(
                 childComment,
                 getNumOfChildCommentLikes(childComment),
-                isChildCommentAlreadyLike(user, childComment.getId()),
+                likeChildCommentRepository.existsByChildCommentIdAndUserId(childComment.getId(), user.getId()),
                 StatusUtil.isChildCommentOwner(childComment, user),
                 StatusUtil.isUpdatable(childComment, user),
                 StatusUtil.isDeletable(childComment, user, board)
@@ -0,0 +1,119 @@
+package net.causw.application.comment;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.board.Board;
+import net.causw.adapter.persistence.comment.ChildComment;
+import net.causw.adapter.persistence.comment.Comment;
+import net.causw.adapter.persistence.post.Post;
+import net.causw.adapter.persistence.repository.comment.ChildCommentRepository;
+import net.causw.adapter.persistence.repository.comment.CommentRepository;
+import net.causw.adapter.persistence.repository.comment.LikeChildCommentRepository;
+import net.causw.adapter.persistence.repository.comment.LikeCommentRepository;
+import net.causw.adapter.persistence.repository.comment.LikeCountProjection;
+import net.causw.adapter.persistence.user.User;
+import net.causw.application.dto.comment.ChildCommentResponseDto;
+import net.causw.application.dto.comment.CommentResponseDto;
+import net.causw.application.dto.util.StatusUtil;
+import net.causw.application.dto.util.dtoMapper.CommentDtoMapper;
+import net.causw.application.pageable.PageTotalMode;
+import net.causw.application.pageable.PageTotalResolver;
+import net.causw.application.pageable.PageableFactory;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글의 댓글 한 페이지를 대댓글, 좋아요 수, 사용자의 좋아요 여부와 함께 조회합니다.
+ * 댓글 수와 관계없이 댓글 페이지(+요청한 방식에 따른 COUNT), 대댓글, 댓글/대댓글 좋아요 수, 댓글/대댓글 좋아요 여부를 각각 한 번씩만 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentPageLoader {
+
+    private final CommentRepository commentRepository;
+    private final ChildCommentRepository childCommentRepository;
+    private final LikeCommentRepository likeCommentRepository;
+    private final LikeChildCommentRepository likeChildCommentRepository;
+    private final PageableFactory pageableFactory;
+    private final PageTotalResolver pageTotalResolver;
+
+    public Page<CommentResponseDto> loadComments(User user, Post post, Integer pageNum, PageTotalMode pageTotalMode) {
+        Page<Comment> comments = pageTotalResolver.resolve(
+                commentRepository.findByPost_IdOrderByCreatedAt(
+                        post.getId(),
+                        pageableFactory.create(pageNum, StaticValue.DEFAULT_COMMENT_PAGE_SIZE)
+                ),
+                pageTotalMode,
+                "comments:" + post.getId(),
+                () -> commentRepository.countByPost_Id(post.getId())
+        );
+        if (comments.isEmpty()) {
+            return new PageImpl<>(List.of(), comments.getPageable(), comments.getTotalElements());
+        }
+
+        List<String> commentIds = comments.stream()
+                .map(Comment::getId)
+                .toList();
+        Map<String, List<ChildComment>> childCommentsByCommentId = childCommentRepository.findByParentComment_IdInOrderByCreatedAtAsc(commentIds)
+                .stream()
+                .collect(Collectors.groupingBy(childComment -> childComment.getParentComment().getId()));
+        List<String> childCommentIds = childCommentsByCommentId.values().stream()
+                .flatMap(List::stream)
+                .map(ChildComment::getId)
+                .toList();
+
+        Map<String, Long> commentLikeCounts = toLikeCountMap(likeCommentRepository.countByCommentIdIn(commentIds));
+        Set<String> likedCommentIds = new HashSet<>(likeCommentRepository.findCommentIdsByUserIdAndCommentIdIn(user.getId(), commentIds));
+
+        Map<String, Long> childCommentLikeCounts = childCommentIds.isEmpty()
+                ? Map.of()
+                : toLikeCountMap(likeChildCommentRepository.countByChildCommentIdIn(childCommentIds));
+        Set<String> likedChildCommentIds = childCommentIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(likeChildCommentRepository.findChildCommentIdsByUserIdAndChildCommentIdIn(user.getId(), childCommentIds));
+
+        Board board = post.getBoard();
+        return comments.map(comment -> {
+            List<ChildComment> childComments = childCommentsByCommentId.getOrDefault(comment.getId(), List.of());
+
+            return CommentDtoMapper.INSTANCE.toCommentResponseDto(
+                    comment,
+                    childComments.stream().filter(childComment -> !childComment.getIsDeleted()).count(),
+                    commentLikeCounts.getOrDefault(comment.getId(), 0L),
+                    likedCommentIds.contains(comment.getId()),
+                    StatusUtil.isCommentOwner(comment, user),
+                    childComments.stream()
+                            .map(childComment -> toChildCommentResponseDto(
+                                    childComment,
+                                    user,
+                                    board,
+                                    childCommentLikeCounts.getOrDefault(childComment.getId(), 0L),
+                                    likedChildCommentIds.contains(childComment.getId())
+                            ))
+                            .collect(Collectors.toList()),
+                    StatusUtil.isUpdatable(comment, user),
+                    StatusUtil.isDeletable(comment, user, board)
+            );
+        });
+    }
+
+    private ChildCommentResponseDto toChildCommentResponseDto(ChildComment childComment, User user, Board board, Long numLike, Boolean isLiked) {
+        return CommentDtoMapper.INSTANCE.toChildCommentResponseDto(
+                childComment,
+                numLike,
+                isLiked,
+                StatusUtil.isChildCommentOwner(childComment, user),
+                StatusUtil.isUpdatable(childComment, user),
+                StatusUtil.isDeletable(childComment, user, board)
+        );
+    }
+
+    private Map<String, Long> toLikeCountMap(List<LikeCountProjection> likeCounts) {
+        return likeCounts.stream()
+                .collect(Collectors.toMap(LikeCountProjection::getTargetId, LikeCountProjection::getLikeCount));
+    }
+}
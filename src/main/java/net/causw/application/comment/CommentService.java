@@ -6,8 +6,6 @@ import net.causw.adapter.persistence.circle.Circle;
 import net.causw.adapter.persistence.circle.CircleMember;
 import net.causw.adapter.persistence.comment.ChildComment;
 import net.causw.adapter.persistence.comment.Comment;
-import net.causw.adapter.persistence.comment.LikeComment;
-import net.causw.application.pageable.PageableFactory;
 import net.causw.adapter.persistence.post.Post;
 import net.causw.adapter.persistence.repository.circle.CircleMemberRepository;
 import net.causw.adapter.persistence.repository.comment.ChildCommentRepository;
@@ -17,10 +15,15 @@ import net.causw.adapter.persistence.repository.comment.LikeCommentRepository;
 import net.causw.adapter.persistence.repository.post.PostRepository;
 import net.causw.adapter.persistence.repository.user.UserRepository;
 import net.causw.adapter.persistence.user.User;
+import net.causw.application.pageable.PageTotalMode;
+import net.causw.application.post.PostEngagementEvent;
+import net.causw.application.reaction.ReactionService;
+import net.causw.application.reaction.ReactionType;
 import net.causw.application.dto.comment.ChildCommentResponseDto;
 import net.causw.application.dto.comment.CommentCreateRequestDto;
 import net.causw.application.dto.comment.CommentResponseDto;
 import net.causw.application.dto.comment.CommentUpdateRequestDto;
+import net.causw.application.dto.reaction.ReactionResponseDto;
 import net.causw.application.dto.util.dtoMapper.CommentDtoMapper;
 import net.causw.application.dto.util.StatusUtil;
 import net.causw.domain.aop.annotation.MeasureTime;
@@ -30,10 +33,12 @@ import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.exceptions.UnauthorizedException;
 import net.causw.domain.model.enums.circle.CircleMemberStatus;
 import net.causw.domain.model.enums.user.Role;
+import net.causw.domain.model.enums.post.PostEngagementType;
 import net.causw.domain.model.util.MessageUtil;
 import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.validation.*;
 import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,8 +59,10 @@ public class CommentService {
     private final ChildCommentRepository childCommentRepository;
     private final LikeCommentRepository likeCommentRepository;
     private final LikeChildCommentRepository likeChildCommentRepository;
-    private final PageableFactory pageableFactory;
     private final Validator validator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CommentPageLoader commentPageLoader;
+    private final ReactionService reactionService;
 
     @Transactional
     public CommentResponseDto createComment(User creator, CommentCreateRequestDto commentCreateDto) {
@@ -67,23 +74,21 @@ public class CommentService {
                 consistOf(ConstraintValidator.of(comment, this.validator));
         validatorBucket.validate();
 
-        return toCommentResponseDto(commentRepository.save(comment), creator, post.getBoard());
+        Comment savedComment = commentRepository.save(comment);
+        postRepository.addNumComment(post.getId(), 1);
+        applicationEventPublisher.publishEvent(PostEngagementEvent.of(post, PostEngagementType.COMMENT, savedComment.getId()));
+
+        return toCommentResponseDto(savedComment, creator, post.getBoard());
     }
 
     @Transactional(readOnly = true)
-    public Page<CommentResponseDto> findAllComments(User user, String postId, Integer pageNum) {
+    public Page<CommentResponseDto> findAllComments(User user, String postId, Integer pageNum, PageTotalMode pageTotalMode) {
         Post post = getPost(postId);
 
         ValidatorBucket validatorBucket = initializeValidator(user, post);
         validatorBucket.validate();
 
-        Page<Comment> comments = commentRepository.findByPost_IdOrderByCreatedAt(
-                postId,
-                pageableFactory.create(pageNum, StaticValue.DEFAULT_COMMENT_PAGE_SIZE)
-        );
-        comments.forEach(comment -> comment.setChildCommentList(childCommentRepository.findByParentComment_Id(comment.getId())));
-
-        return comments.map(comment -> toCommentResponseDto(comment, user, post.getBoard()));
+        return commentPageLoader.loadComments(user, post, pageNum, pageTotalMode);
     }
 
     @Transactional
@@ -171,12 +176,14 @@ public class CommentService {
         validatorBucket.validate();
 
         comment.delete();
+        postRepository.addNumComment(post.getId(), -1);
+        applicationEventPublisher.publishEvent(PostEngagementEvent.canceled(post, PostEngagementType.COMMENT, comment.getId()));
 
         return toCommentResponseDto(commentRepository.save(comment), deleter, post.getBoard());
     }
 
     @Transactional
-    public void likeComment(User user, String commentId) {
+    public ReactionResponseDto likeComment(User user, String commentId) {
         Comment comment = getComment(commentId);
 
         ValidatorBucket validatorBucket = ValidatorBucket.of();
@@ -184,20 +191,13 @@ public class CommentService {
                 .consistOf(UserStateIsDeletedValidator.of(comment.getWriter().getState()))
                 .validate();
 
-        if (isCommentAlreadyLike(user, commentId)) {
-            throw new BadRequestException(ErrorCode.ROW_ALREADY_EXIST, MessageUtil.COMMENT_ALREADY_LIKED);
-        }
-
-        LikeComment likeComment = LikeComment.of(comment, user);
-        likeCommentRepository.save(likeComment);
+        return ReactionResponseDto.of(reactionService.react(ReactionType.COMMENT_LIKE, commentId, user.getId()));
     }
 
-    private Boolean isCommentAlreadyLike(User user, String commentId) {
-        return likeCommentRepository.existsByCommentIdAndUserId(commentId, user.getId());
-    }
-
-    private Boolean isChildCommentAlreadyLike(User user, String childCommentId) {
-        return likeChildCommentRepository.existsByChildCommentIdAndUserId(childCommentId, user.getId());
+    @Transactional
+    public ReactionResponseDto cancelLikeComment(User user, String commentId) {
+        getComment(commentId);
+        return ReactionResponseDto.of(reactionService.cancel(ReactionType.COMMENT_LIKE, commentId, user.getId()));
     }
 
     private CommentResponseDto toCommentResponseDto(Comment comment, User user, Board board) {
@@ -205,7 +205,7 @@ public class CommentService {
                 comment,
                 childCommentRepository.countByParentComment_IdAndIsDeletedIsFalse(comment.getId()),
                 getNumOfCommentLikes(comment),
-                isCommentAlreadyLike(user, comment.getId()),
+                likeCommentRepository.existsByCommentIdAndUserId(comment.getId(), user.getId()),
                 StatusUtil.isCommentOwner(comment, user),
                 comment.getChildCommentList().stream()
                         .map(childComment -> toChildCommentResponseDto(childComment, user, board))
@@ -219,7 +219,7 @@ public class CommentService {
         return CommentDtoMapper.INSTANCE.toChildCommentResponseDto(
                 childComment,
                 getNumOfChildCommentLikes(childComment),
-                isChildCommentAlreadyLike(user, childComment.getId()),
+                likeChildCommentRepository.existsByChildCommentIdAndUserId(childComment.getId(), user.getId()),
                 StatusUtil.isChildCommentOwner(childComment, user),
                 StatusUtil.isUpdatable(childComment, user),
                 StatusUtil.isDeletable(childComment, user, board)
@@ -0,0 +1,32 @@
+package net.causw.application.dto.notification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class NotificationInboxResponseDto {
+
+    @Schema(description = "알림 목록 (최신순)")
+    private List<NotificationResponseDto> notifications;
+
+    @Schema(description = "읽지 않은 알림 개수", example = "3")
+    private Long unreadCount;
+
+    @Schema(description = "다음 알림 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 요청에 사용할 커서의 알림 생성 시간 (마지막 알림의 생성 시간)", example = "2024-01-26T18:40:40.643")
+    private LocalDateTime nextCursorCreatedAt;
+
+    @Schema(description = "다음 요청에 사용할 커서의 알림 id (마지막 알림의 id)", example = "uuid 형식의 String 값입니다.")
+    private String nextCursorId;
+}
@@ -7,11 +7,16 @@ import lombok.Getter;
 import lombok.Setter;
 import net.causw.domain.model.enums.notification.NoticeType;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @Builder
 @AllArgsConstructor
 public class NotificationResponseDto {
+    @Schema(description = "알림 id", example = "uuid 형식의 String 값입니다.")
+    private String id;
+
     @Schema(description = "사용자 id", example = "uuid 형식의 String 값입니다.")
     private String user_id;
 
@@ -23,4 +28,13 @@ public class NotificationResponseDto {
 
     @Schema(description = "전체 사용자 대상 알림 여부", example = "false")
     private Boolean isGlobal;
+
+    @Schema(description = "게시판 구독 알림인 경우 게시판 id", example = "uuid 형식의 String 값입니다.(nullable)")
+    private String boardId;
+
+    @Schema(description = "알림 생성 시간", example = "2024-01-26T18:40:40.643")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "읽음 여부", example = "false")
+    private Boolean isRead;
 }
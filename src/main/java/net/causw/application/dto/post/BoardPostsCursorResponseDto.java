@@ -0,0 +1,41 @@
+package net.causw.application.dto.post;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class BoardPostsCursorResponseDto {
+
+    @Schema(description = "게시판 id", example = "uuid 형식의 String 값입니다.")
+    private String boardId;
+
+    @Schema(description = "게시판 이름", example = "게시판 이름입니다.")
+    private String boardName;
+
+    @Schema(description = "게시글 작성 가능 여부", example = "true")
+    private Boolean writable;
+
+    @Schema(description = "즐겨찾기 게시판 여부", example = "false")
+    private Boolean isFavorite;
+
+    @Schema(description = "게시글 정보입니다")
+    private List<PostsResponseDto> post;
+
+    @Schema(description = "다음 게시글 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 요청에 사용할 커서의 게시글 생성 시간 (마지막 게시글의 생성 시간)", example = "2024-01-26T18:40:40.643")
+    private LocalDateTime nextCursorCreatedAt;
+
+    @Schema(description = "다음 요청에 사용할 커서의 게시글 id (마지막 게시글의 id)", example = "uuid 형식의 String 값입니다.")
+    private String nextCursorId;
+}
@@ -50,6 +50,9 @@ public class PostResponseDto {
     @Schema(description = "게시글 즐겨찾기 개수", example = "11")
     private Long numFavorite;
 
+    @Schema(description = "게시글 조회수", example = "120")
+    private Long numView;
+
     @Schema(description = "익명글 여부", example = "False")
     private Boolean isAnonymous;
 
@@ -20,7 +20,7 @@ PostsResponseDto {
     @Schema(description = "게시글 제목", example = "게시글의 제목입니다.")
     private String title;
 
-    @Schema(description = "게시글 내용", example = "게시글의 내용입니다.")
+    @Schema(description = "게시글 내용 미리보기 (앞 100자)", example = "게시글의 내용입니다.")
     private String content;
 
     @Schema(description = "게시글 작성자 이름", example = "관리자")
@@ -41,6 +41,9 @@ PostsResponseDto {
     @Schema(description = "게시글 즐겨찾기 개수", example = "11")
     private Long numFavorite;
 
+    @Schema(description = "게시글 조회수", example = "120")
+    private Long numView;
+
     @Schema(description = "익명글 여부", example = "False")
     private Boolean isAnonymous;
 
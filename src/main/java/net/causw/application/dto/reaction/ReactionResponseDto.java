@@ -0,0 +1,25 @@
+package net.causw.application.dto.reaction;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import net.causw.application.reaction.ReactionResult;
+
+@Getter
+@Setter
+@Builder
+public class ReactionResponseDto {
+    @Schema(description = "요청 후 좋아요/즐겨찾기 여부", example = "true")
+    private Boolean isActive;
+
+    @Schema(description = "요청 후 좋아요/즐겨찾기 수", example = "12")
+    private Long count;
+
+    public static ReactionResponseDto of(ReactionResult reactionResult) {
+        return ReactionResponseDto.builder()
+                .isActive(reactionResult.isActive())
+                .count(reactionResult.getCount())
+                .build();
+    }
+}
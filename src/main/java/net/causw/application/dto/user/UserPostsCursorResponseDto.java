@@ -0,0 +1,34 @@
+package net.causw.application.dto.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import net.causw.application.dto.post.PostsResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class UserPostsCursorResponseDto {
+    private String id;
+    private String email;
+    private String name;
+    private String studentId;
+    private Integer admissionYear;
+    private String profileImageUrl;
+
+    @Schema(description = "간락화된 게시글 정보들입니다")
+    private List<PostsResponseDto> posts;
+
+    @Schema(description = "다음 게시글 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 요청에 사용할 커서의 게시글 생성 시간 (마지막 게시글의 생성 시간)", example = "2024-01-26T18:40:40.643")
+    private LocalDateTime nextCursorCreatedAt;
+
+    @Schema(description = "다음 요청에 사용할 커서의 게시글 id (마지막 게시글의 id)", example = "uuid 형식의 String 값입니다.")
+    private String nextCursorId;
+}
@@ -1,16 +1,44 @@
 package net.causw.application.dto.util.dtoMapper;
 
 import net.causw.adapter.persistence.notification.Notification;
+import net.causw.application.dto.notification.NotificationInboxResponseDto;
 import net.causw.application.dto.notification.NotificationResponseDto;
+import net.causw.application.notification.NotificationPushMessage;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface NotificationDtoMapper {
 
     NotificationDtoMapper INSTANCE = Mappers.getMapper(NotificationDtoMapper.class);
 
-    @Mapping(target = "user_id", source = "user.id")
-    NotificationResponseDto toNotificationResponseDto(Notification notification);
+    @Mapping(target = "id", source = "notification.id")
+    @Mapping(target = "user_id", source = "notification.user.id")
+    @Mapping(target = "boardId", source = "notification.board.id")
+    @Mapping(target = "createdAt", source = "notification.createdAt")
+    @Mapping(target = "isRead", source = "isRead")
+    NotificationResponseDto toNotificationResponseDto(Notification notification, Boolean isRead);
+
+    // 실시간 전송되는 알림은 방금 생성된 알림이므로 항상 읽지 않은 상태
+    @Mapping(target = "id", source = "notificationId")
+    @Mapping(target = "user_id", source = "userId")
+    @Mapping(target = "isRead", constant = "false")
+    NotificationResponseDto toNotificationResponseDto(NotificationPushMessage notificationPushMessage);
+
+    @Mapping(target = "notifications", source = "notifications")
+    @Mapping(target = "unreadCount", source = "unreadCount")
+    @Mapping(target = "hasNext", source = "hasNext")
+    @Mapping(target = "nextCursorCreatedAt", source = "nextCursorCreatedAt")
+    @Mapping(target = "nextCursorId", source = "nextCursorId")
+    NotificationInboxResponseDto toNotificationInboxResponseDto(
+            List<NotificationResponseDto> notifications,
+            Long unreadCount,
+            Boolean hasNext,
+            LocalDateTime nextCursorCreatedAt,
+            String nextCursorId
+    );
 }
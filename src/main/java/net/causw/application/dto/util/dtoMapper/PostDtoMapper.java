@@ -2,7 +2,8 @@ package net.causw.application.dto.util.dtoMapper;
 
 import net.causw.adapter.persistence.board.Board;
 import net.causw.adapter.persistence.post.Post;
-import net.causw.adapter.persistence.uuidFile.joinEntity.PostAttachImage;
+import net.causw.adapter.persistence.repository.post.PostSummaryProjection;
+import net.causw.adapter.persistence.repository.post.RecentPostProjection;
 import net.causw.application.dto.comment.CommentResponseDto;
 import net.causw.application.dto.form.response.FormResponseDto;
 import net.causw.application.dto.post.*;
@@ -18,6 +19,8 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 // Custom Annotation을 사용하여 중복되는 @Mapping을 줄일 수 있습니다.
@@ -34,22 +37,26 @@ public interface PostDtoMapper extends UuidFileToUrlDtoMapper {
 
     PostDtoMapper INSTANCE = Mappers.getMapper(PostDtoMapper.class);
 
-    // Dto writerName 필드에 post.writer.name을 삽입한다는 의미입니다.
+    // Dto writerName 필드에 post.writerName을 삽입한다는 의미입니다.
+    // 목록은 본문 앞부분만 조회한 projection으로 변환합니다.
     @Mapping(target = "id", source = "post.id")
-    @Mapping(target = "writerName", source = "post.writer.name")
-    @Mapping(target = "writerNickname", source = "post.writer.nickname")
-    @Mapping(target = "writerAdmissionYear", source = "post.writer.admissionYear")
     @Mapping(target = "content", source = "post.content")
+    @Mapping(target = "writerName", source = "post.writerName")
+    @Mapping(target = "writerNickname", source = "post.writerNickname")
+    @Mapping(target = "writerAdmissionYear", source = "post.writerAdmissionYear")
     @Mapping(target = "isAnonymous", source = "post.isAnonymous")
     @Mapping(target = "isQuestion", source = "post.isQuestion")
+    @Mapping(target = "isDeleted", source = "post.isDeleted")
     @Mapping(target = "createdAt", source = "post.createdAt")
     @Mapping(target = "updatedAt", source = "post.updatedAt")
-    @Mapping(target = "numLike", source = "numPostLike")
-    @Mapping(target = "numFavorite", source = "numPostFavorite")
-    @Mapping(target = "postAttachImage", source = "thumbnail", qualifiedByName = "mapUuidFileToFileUrl")
+    @Mapping(target = "numComment", source = "post.numAllComment")
+    @Mapping(target = "numLike", source = "post.numLike")
+    @Mapping(target = "numFavorite", source = "post.numFavorite")
+    @Mapping(target = "numView", source = "post.numView")
+    @Mapping(target = "postAttachImage", source = "thumbnailUrl")
     @Mapping(target = "isPostVote", source = "isPostVote")
     @Mapping(target = "isPostForm", source = "isPostForm")
-    PostsResponseDto toPostsResponseDto(Post post, Long numComment, Long numPostLike, Long numPostFavorite, PostAttachImage thumbnail, Boolean isPostVote, Boolean isPostForm);
+    PostsResponseDto toPostsResponseDto(PostSummaryProjection post, String thumbnailUrl, Boolean isPostVote, Boolean isPostForm);
 
     @Mapping(target = "title", source = "post.title")
     @Mapping(target = "writerName", source = "post.writer.name")
@@ -60,8 +67,10 @@ public interface PostDtoMapper extends UuidFileToUrlDtoMapper {
     @Mapping(target = "content", source = "post.content")
     @Mapping(target = "isAnonymous", source = "post.isAnonymous")
     @Mapping(target = "isQuestion", source = "post.isQuestion")
+    @Mapping(target = "numComment", source = "numComment")
     @Mapping(target = "numLike", source = "numPostLike")
     @Mapping(target = "numFavorite", source = "numPostFavorite")
+    @Mapping(target = "numView", source = "post.numView")
     @Mapping(target = "isPostLike", source = "isPostLike")
     @Mapping(target = "isPostFavorite", source = "isPostFavorite")
     @Mapping(target = "isOwner", source = "isOwner")
@@ -93,10 +102,26 @@ public interface PostDtoMapper extends UuidFileToUrlDtoMapper {
     @Mapping(target = "contentId", source = "post.id")
     PostContentDto toPostContentDto(Post post);
 
+    @Mapping(target = "title", source = "recentPost.title")
+    @Mapping(target = "contentId", source = "recentPost.id")
+    PostContentDto toPostContentDto(RecentPostProjection recentPost);
+
     @Mapping(target = "boardId", source = "board.id")
     @Mapping(target = "boardName", source = "board.name")
     BoardPostsResponseDto toBoardPostsResponseDto(Board board, Set<Role> userRole, Boolean writable, Boolean isFavorite, Page<PostsResponseDto> post);
 
+    @Mapping(target = "boardId", source = "board.id")
+    @Mapping(target = "boardName", source = "board.name")
+    BoardPostsCursorResponseDto toBoardPostsCursorResponseDto(
+            Board board,
+            Boolean writable,
+            Boolean isFavorite,
+            List<PostsResponseDto> post,
+            Boolean hasNext,
+            LocalDateTime nextCursorCreatedAt,
+            String nextCursorId
+    );
+
     @Mapping(target="id", source = "post.id")
     PostCreateResponseDto toPostCreateResponseDto(Post post);
 }
@@ -16,6 +16,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Page;
 
+import java.time.LocalDateTime;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -57,6 +58,21 @@ public interface UserDtoMapper extends UuidFileToUrlDtoMapper {
     @Mapping(target = "posts", source = "post")
     UserPostsResponseDto toUserPostsResponseDto(User user, Page<PostsResponseDto> post);
 
+    @Mapping(target = "id", source = "user.id")
+    @Mapping(target = "email", source = "user.email")
+    @Mapping(target = "name", source = "user.name")
+    @Mapping(target = "studentId", source = "user.studentId")
+    @Mapping(target = "admissionYear", source = "user.admissionYear")
+    @Mapping(target = "profileImageUrl", source = "user.userProfileImage", qualifiedByName = "mapUuidFileToFileUrl")
+    @Mapping(target = "posts", source = "post")
+    UserPostsCursorResponseDto toUserPostsCursorResponseDto(
+            User user,
+            List<PostsResponseDto> post,
+            Boolean hasNext,
+            LocalDateTime nextCursorCreatedAt,
+            String nextCursorId
+    );
+
 
     @Mapping(target = "id", source = "post.id")
     @Mapping(target = "title", source = "post.title")
@@ -66,6 +82,7 @@ public interface UserDtoMapper extends UuidFileToUrlDtoMapper {
     @Mapping(target = "circleName", source = "board.circle.name")
     @Mapping(target = "createdAt", source = "post.createdAt")
     @Mapping(target = "updatedAt", source = "post.updatedAt")
+    @Mapping(target = "numComment", source = "numComment")
     UserPostResponseDto toUserPostResponseDto(Post post, Board board, Long numComment);
 
     @Mapping(target = "id", source = "user.id")
@@ -0,0 +1,130 @@
+package net.causw.application.homepage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.application.dto.homepage.HomePageResponseDto;
+import net.causw.application.post.PostChangedEvent;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 홈페이지의 사용자 권한과 무관한 부분(게시판 목록 + 게시판별 최신 게시글)을 서버 메모리에 캐싱합니다.
+ * 캐시가 비어 있을 때 동시에 들어온 요청은 하나의 조회 결과를 함께 기다리므로 DB 조회는 한 번만 실행됩니다.
+ * 홈 게시판의 게시글이 생성/수정/삭제/복구되면 커밋 이후 현재 서버에서 무효화하고, pub/sub으로 다른 서버에도 알립니다.
+ * pub/sub은 메시지를 한 번만 전달하므로 Redis 연결이 끊겨 있던 서버나 좋아요/댓글 수 등은 최대 TTL(HOME_PAGE_CACHE_TTL)만큼 지연될 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomePageCache implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final AtomicReference<Entry> cache = new AtomicReference<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(StaticValue.HOME_PAGE_CACHE_CHANNEL));
+    }
+
+    public List<HomePageResponseDto> get(Supplier<List<HomePageResponseDto>> loader) {
+        while (true) {
+            Entry current = cache.get();
+            if (current != null && !current.isExpired()) {
+                return current.join();
+            }
+
+            Entry loading = new Entry(System.currentTimeMillis() + StaticValue.HOME_PAGE_CACHE_TTL);
+            if (!cache.compareAndSet(current, loading)) {
+                continue; // 다른 요청이 먼저 조회를 시작한 경우 그 결과를 기다림
+            }
+
+            try {
+                List<HomePageResponseDto> homePage = loader.get();
+                loading.future.complete(homePage);
+                return homePage;
+            } catch (Throwable e) {
+                // Error 도 기다리는 요청에 전달해야 무한히 대기하지 않음
+                cache.compareAndSet(loading, null);
+                loading.future.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    public void evict() {
+        cache.set(null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evictBoard(event.getBoardId());
+        try {
+            stringRedisTemplate.convertAndSend(StaticValue.HOME_PAGE_CACHE_CHANNEL, event.getBoardId());
+        } catch (Exception e) {
+            // 다른 서버는 TTL 만료 후 반영
+            log.warn("Failed to relay home page cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictBoard(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictBoard(String boardId) {
+        Entry current = cache.get();
+        if (current == null) {
+            return;
+        }
+
+        // 조회 중이거나 홈 게시판의 게시글인 경우 무효화 (동아리 게시판 등은 홈페이지에 노출되지 않음)
+        List<HomePageResponseDto> homePage = current.future.getNow(null);
+        if (homePage == null || homePage.stream().anyMatch(board -> board.getBoard().getId().equals(boardId))) {
+            cache.compareAndSet(current, null);
+        }
+    }
+
+    private static class Entry {
+        private final long expiresAt;
+        private final CompletableFuture<List<HomePageResponseDto>> future = new CompletableFuture<>();
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+
+        private List<HomePageResponseDto> join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -3,19 +3,17 @@ package net.causw.application.homepage;
 import lombok.RequiredArgsConstructor;
 import net.causw.adapter.persistence.board.Board;
 import net.causw.adapter.persistence.circle.Circle;
-import net.causw.application.dto.util.StatusUtil;
+import net.causw.application.pageable.PageTotalMode;
+import net.causw.application.pageable.PageTotalResolver;
 import net.causw.application.pageable.PageableFactory;
-import net.causw.adapter.persistence.post.Post;
+import net.causw.application.post.PostSummaryLoader;
 import net.causw.adapter.persistence.repository.board.BoardRepository;
-import net.causw.adapter.persistence.repository.post.FavoritePostRepository;
-import net.causw.adapter.persistence.repository.post.LikePostRepository;
 import net.causw.adapter.persistence.repository.post.PostRepository;
 import net.causw.adapter.persistence.repository.user.UserRepository;
 import net.causw.adapter.persistence.user.User;
 import net.causw.application.dto.homepage.HomePageResponseDto;
 import net.causw.application.dto.board.BoardResponseDto;
 import net.causw.application.dto.util.dtoMapper.BoardDtoMapper;
-import net.causw.application.dto.util.dtoMapper.PostDtoMapper;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
@@ -37,9 +35,10 @@ public class HomePageService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
-    private final LikePostRepository likePostRepository;
-    private final FavoritePostRepository favoritePostRepository;
     private final PageableFactory pageableFactory;
+    private final HomePageCache homePageCache;
+    private final PostSummaryLoader postSummaryLoader;
+    private final PageTotalResolver pageTotalResolver;
 
     public List<HomePageResponseDto> getHomePage(User user) {
         Set<Role> roles = user.getRoles();
@@ -49,6 +48,17 @@ public class HomePageService {
                 .consistOf(UserRoleIsNoneValidator.of(roles))
                 .validate();
 
+        return homePageCache.get(this::loadHomePage)
+                .stream()
+                .map(homePage -> HomePageResponseDto.of(
+                        withWritable(homePage.getBoard(), roles),
+                        homePage.getPosts()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    // 사용자 권한과 무관한 홈페이지 데이터 조회 (writable 은 요청마다 계산)
+    private List<HomePageResponseDto> loadHomePage() {
         List<Board> boards = boardRepository.findByCircle_IdIsNullAndIsDeletedOrderByCreatedAtAsc(false);
         if (boards.isEmpty()) {
             throw new BadRequestException(
@@ -60,42 +70,44 @@ public class HomePageService {
         return boards
                 .stream()
                 .map(board -> HomePageResponseDto.of(
-                        toBoardResponseDto(board, roles),
-                        postRepository.findAllByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(board.getId(), pageableFactory.create(0, StaticValue.HOME_POST_PAGE_SIZE))
-                                .map(post -> PostDtoMapper.INSTANCE.toPostsResponseDto(
-                                        post,
-                                        postRepository.countAllCommentByPost_Id(post.getId()),
-                                        getNumOfPostLikes(post),
-                                        getNumOfPostFavorites(post),
-                                        !post.getPostAttachImageList().isEmpty() ? post.getPostAttachImageList().get(0) : null,
-                                        StatusUtil.isPostVote(post),
-                                        post.getForm() != null
-                                )))
+                        toBoardResponseDto(board),
+                        postSummaryLoader.load(pageTotalResolver.resolve(
+                                postRepository.findSummariesByBoard_IdAndIsDeletedIsFalse(board.getId(), pageableFactory.create(0, StaticValue.HOME_POST_PAGE_SIZE)),
+                                PageTotalMode.EXACT,
+                                "board:" + board.getId(),
+                                () -> postRepository.countByBoard_IdAndIsDeletedIsFalse(board.getId())
+                        )))
                 )
                 .collect(Collectors.toList());
     }
 
-    private BoardResponseDto toBoardResponseDto(Board board, Set<Role> userRoles) {
+    private BoardResponseDto toBoardResponseDto(Board board) {
         List<String> roles = Arrays.asList(board.getCreateRoles().split(","));
-        Boolean writable = userRoles.stream()
-                .map(Role::getValue)
-                .anyMatch(roles::contains);
         String circleId = Optional.ofNullable(board.getCircle()).map(Circle::getId).orElse(null);
         String circleName = Optional.ofNullable(board.getCircle()).map(Circle::getName).orElse(null);
         return BoardDtoMapper.INSTANCE.toBoardResponseDto(
                 board,
                 roles,
-                writable,
+                null,
                 circleId,
                 circleName
         );
     }
 
-    private Long getNumOfPostLikes(Post post){
-        return likePostRepository.countByPostId(post.getId());
-    }
-
-    private Long getNumOfPostFavorites(Post post){
-        return favoritePostRepository.countByPostIdAndIsDeletedFalse(post.getId());
+    private BoardResponseDto withWritable(BoardResponseDto board, Set<Role> userRoles) {
+        Boolean writable = userRoles.stream()
+                .map(Role::getValue)
+                .anyMatch(board.getCreateRoleList()::contains);
+        return BoardResponseDto.builder()
+                .id(board.getId())
+                .name(board.getName())
+                .description(board.getDescription())
+                .createRoleList(board.getCreateRoleList())
+                .category(board.getCategory())
+                .writable(writable)
+                .isDeleted(board.getIsDeleted())
+                .circleId(board.getCircleId())
+                .circleName(board.getCircleName())
+                .build();
     }
 }
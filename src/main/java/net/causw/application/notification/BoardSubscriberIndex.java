@@ -0,0 +1,195 @@
+package net.causw.application.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.repository.notification.BoardSubscriptionProjection;
+import net.causw.adapter.persistence.repository.notification.UserBoardSubscribeRepository;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판별 구독자를 Redis bitmap(사용자 순번 offset)으로 관리합니다.
+ * 구독 여부 확인 시 UserBoardSubscribe, User 엔티티를 조회하지 않으며, 게시판당 메모리는 (사용자 수 / 8) byte 입니다.
+ * 구독 설정 변경은 커밋 후 즉시 반영하고, 반영에 실패하면 게시판 bitmap을 삭제하여 재구성 전까지 DB에서 조회합니다.
+ * 매일 한 번(한 서버에서만) 테이블 기준으로 다시 만들며, 재구성 중 들어온 변경은 기록해 두었다가 재구성 후 DB 기준으로 다시 반영합니다.
+ * 시작 시에는 재구성한 적이 없는 경우(Redis 초기화 등)에만 재구성합니다.
+ * Redis를 사용할 수 없거나 bitmap 또는 사용자 순번이 없으면 DB에서 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSubscriberIndex {
+
+    private static final String JOB_NAME = "BoardSubscriberRebuild";
+
+    private final RedisUtils redisUtils;
+    private final UserBoardSubscribeRepository userBoardSubscribeRepository;
+
+    public boolean isSubscribed(String userId, String boardId) {
+        try {
+            Long ordinal = redisUtils.getUserOrdinals(List.of(userId)).get(0);
+            Boolean isSubscribed = ordinal == null ? null : redisUtils.isBoardSubscriber(boardId, ordinal);
+            if (isSubscribed != null) {
+                return isSubscribed;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read board subscriber index: {}", e.getMessage());
+        }
+        return isSubscribedInDatabase(userId, boardId);
+    }
+
+    // 주어진 사용자 중 구독자만 (bitmap은 한 번만 조회)
+    public Set<String> filterSubscribers(String boardId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            byte[] bitmap = redisUtils.getBoardSubscriberBitmap(boardId);
+            if (bitmap != null) {
+                List<String> candidates = List.copyOf(userIds);
+                List<Long> ordinals = redisUtils.getUserOrdinals(candidates);
+                Set<String> subscribers = new HashSet<>();
+                for (int i = 0; i < candidates.size(); i++) {
+                    if (ordinals.get(i) != null && isSet(bitmap, ordinals.get(i))) {
+                        subscribers.add(candidates.get(i));
+                    }
+                }
+                return subscribers;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read board subscriber index: {}", e.getMessage());
+        }
+        return userBoardSubscribeRepository.findSubscribedUserIdsByBoard_Id(boardId).stream()
+                .filter(userIds::contains)
+                .collect(Collectors.toSet());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubscriptionChanged(BoardSubscriptionChangedEvent event) {
+        try {
+            long ordinal = redisUtils.getOrCreateUserOrdinals(List.of(event.getUserId())).get(0);
+            redisUtils.setBoardSubscriber(event.getBoardId(), event.getUserId(), ordinal, event.isSubscribed());
+        } catch (Exception e) {
+            log.warn("Failed to update board subscriber index: {}", e.getMessage());
+            try {
+                redisUtils.deleteBoardSubscriberBitmap(event.getBoardId(), event.getUserId());
+            } catch (Exception deleteException) {
+                log.error("Failed to invalidate board subscriber index of board {}: {}", event.getBoardId(), deleteException.getMessage());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (redisUtils.isBoardSubscriberIndexBuilt()) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check board subscriber index: {}", e.getMessage());
+            return;
+        }
+        rebuild();
+    }
+
+    @Scheduled(cron = "0 30 4 * * ?") // 매일 새벽 4시 30분에 실행
+    public void rebuild() {
+        List<String> replacedBoardIds = new ArrayList<>();
+        try {
+            if (!redisUtils.tryAcquireJobLock(JOB_NAME, StaticValue.BOARD_SUBSCRIBER_REBUILD_TIMEOUT)) {
+                return;
+            }
+            // 테이블을 읽기 전에 기록을 시작해야 읽은 이후의 변경이 누락되지 않음
+            redisUtils.startBoardSubscriberRebuild(StaticValue.BOARD_SUBSCRIBER_REBUILD_TIMEOUT);
+            List<BoardSubscriptionProjection> subscriptions = userBoardSubscribeRepository.findAllSubscriptions();
+
+            List<String> userIds = subscriptions.stream()
+                    .filter(subscription -> Boolean.TRUE.equals(subscription.getIsSubscribed()))
+                    .map(BoardSubscriptionProjection::getUserId)
+                    .distinct()
+                    .toList();
+            Map<String, Long> ordinals = new HashMap<>();
+            for (int from = 0; from < userIds.size(); from += StaticValue.BOARD_SUBSCRIBER_ORDINAL_BATCH_SIZE) {
+                List<String> batch = userIds.subList(from, Math.min(from + StaticValue.BOARD_SUBSCRIBER_ORDINAL_BATCH_SIZE, userIds.size()));
+                List<Long> batchOrdinals = redisUtils.getOrCreateUserOrdinals(batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    ordinals.put(batch.get(i), batchOrdinals.get(i));
+                }
+            }
+
+            // 구독자가 모두 해지한 게시판도 빈 bitmap으로 덮어쓰도록 전체 게시판을 포함
+            Map<String, List<Long>> ordinalsByBoard = new HashMap<>();
+            for (BoardSubscriptionProjection subscription : subscriptions) {
+                List<Long> boardOrdinals = ordinalsByBoard.computeIfAbsent(subscription.getBoardId(), key -> new ArrayList<>());
+                if (Boolean.TRUE.equals(subscription.getIsSubscribed())) {
+                    boardOrdinals.add(ordinals.get(subscription.getUserId()));
+                }
+            }
+            ordinalsByBoard.forEach((boardId, boardOrdinals) -> {
+                redisUtils.replaceBoardSubscriberBitmap(boardId, toBitmap(boardOrdinals));
+                replacedBoardIds.add(boardId);
+            });
+
+            int replayed = replayChanges();
+            redisUtils.finishBoardSubscriberRebuild();
+            log.info("Board subscriber index rebuilt: {} boards, {} subscribers, {} changes replayed",
+                    ordinalsByBoard.size(), userIds.size(), replayed);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild board subscriber index: {}", e.getMessage());
+            // 재구성 중 변경이 반영되지 않았을 수 있는 bitmap은 삭제하여 DB에서 조회
+            try {
+                replacedBoardIds.forEach(boardId -> redisUtils.deleteBoardSubscriberBitmap(boardId, null));
+            } catch (Exception deleteException) {
+                log.error("Failed to invalidate board subscriber index: {}", deleteException.getMessage());
+            }
+        }
+    }
+
+    // 재구성 중 변경된 구독을 DB 기준으로 다시 반영
+    private int replayChanges() {
+        int replayed = 0;
+        String change;
+        while ((change = redisUtils.popBoardSubscriberChange()) != null) {
+            String[] ids = change.split(":", 2);
+            String boardId = ids[0];
+            String userId = ids[1];
+            long ordinal = redisUtils.getOrCreateUserOrdinals(List.of(userId)).get(0);
+            redisUtils.resetBoardSubscriber(boardId, ordinal, isSubscribedInDatabase(userId, boardId));
+            replayed++;
+        }
+        return replayed;
+    }
+
+    private boolean isSubscribedInDatabase(String userId, String boardId) {
+        return userBoardSubscribeRepository.findByUser_IdAndBoard_Id(userId, boardId)
+                .map(userBoardSubscribe -> Boolean.TRUE.equals(userBoardSubscribe.getIsSubscribed()))
+                .orElse(false);
+    }
+
+    // Redis bitmap은 byte 내에서 상위 bit부터 offset이 증가
+    private boolean isSet(byte[] bitmap, long ordinal) {
+        int index = (int) (ordinal >>> 3);
+        return index < bitmap.length && (bitmap[index] & (0x80 >>> (ordinal & 7))) != 0;
+    }
+
+    private byte[] toBitmap(List<Long> ordinals) {
+        if (ordinals.isEmpty()) {
+            return new byte[0];
+        }
+        long max = ordinals.stream().mapToLong(Long::longValue).max().getAsLong();
+        byte[] bitmap = new byte[(int) ((max >>> 3) + 1)];
+        for (long ordinal : ordinals) {
+            bitmap[(int) (ordinal >>> 3)] |= (byte) (0x80 >>> (ordinal & 7));
+        }
+        return bitmap;
+    }
+}
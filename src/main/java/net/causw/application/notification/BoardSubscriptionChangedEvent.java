@@ -0,0 +1,23 @@
+package net.causw.application.notification;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.causw.adapter.persistence.notification.UserBoardSubscribe;
+
+// 게시판 알림 구독 설정 변경 시 발행되는 이벤트 (구독자 bitmap 갱신 용도)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardSubscriptionChangedEvent {
+    private final String userId;
+    private final String boardId;
+    private final boolean isSubscribed;
+
+    public static BoardSubscriptionChangedEvent of(UserBoardSubscribe userBoardSubscribe) {
+        return new BoardSubscriptionChangedEvent(
+                userBoardSubscribe.getUser().getId(),
+                userBoardSubscribe.getBoard().getId(),
+                Boolean.TRUE.equals(userBoardSubscribe.getIsSubscribed())
+        );
+    }
+}
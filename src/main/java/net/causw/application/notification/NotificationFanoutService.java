@@ -0,0 +1,149 @@
+package net.causw.application.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.application.post.PostCreatedEvent;
+import net.causw.domain.model.enums.notification.NoticeType;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 생성 알림을 요청 트랜잭션 밖에서 발송합니다.
+ * 게시글 생성 트랜잭션이 커밋된 뒤 전용 스레드 풀에서 게시판(또는 전체) 알림 하나만 저장하므로,
+ * 게시글 작성 응답 시간과 알림 저장량은 구독자 수와 관계없습니다. (구독자별 알림함은 NotificationService에서 조회 시 병합)
+ * 대기 중인 작업 수는 notification.fanout.backlog.events 지표로 확인할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class NotificationFanoutService {
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO tb_notification (id, user_id, board_id, writer_id, content, notice_type, is_global, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationPushService notificationPushService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final Counter failedNotifications;
+
+    public NotificationFanoutService(
+            JdbcTemplate jdbcTemplate,
+            NotificationPushService notificationPushService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.notificationPushService = notificationPushService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 큐가 가득 찬 경우 알림이 유실되지 않도록 호출 스레드에서 직접 실행 (커밋 이후이므로 응답 지연만 발생)
+        this.executor = new ThreadPoolExecutor(
+                2, 2, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(StaticValue.NOTIFICATION_FANOUT_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("notification-fanout-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        Gauge.builder("notification.fanout.backlog.events", pendingEvents, AtomicLong::get)
+                .description("발송 대기 중인 게시글 알림 작업 수")
+                .register(meterRegistry);
+        this.failedNotifications = Counter.builder("notification.fanout.failed")
+                .description("재시도 후에도 저장에 실패한 알림 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostCreated(PostCreatedEvent event) {
+        pendingEvents.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                fanOut(event);
+            } catch (Exception e) {
+                log.error("Failed to fan out notifications of post {}: {}", event.getPostId(), e.getMessage());
+            } finally {
+                pendingEvents.decrementAndGet();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Notification fan-out did not finish before shutdown: {} events pending", pendingEvents.get());
+        }
+    }
+
+    private void fanOut(PostCreatedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        String notificationId = UUID.randomUUID().toString();
+
+        // 구독자별로 저장하지 않고 게시판 알림 하나만 저장 (구독자는 알림함 조회 시 구독 게시판 알림으로 함께 조회)
+        // 전체 사용자가 알림 대상이면 전체 알림으로 저장
+        boolean isGlobal = event.isDefaultNotice();
+        String boardId = isGlobal ? null : event.getBoardId();
+
+        if (insertWithRetry(List.of(toRow(notificationId, null, boardId, event.getWriterId(), event.getTitle(), isGlobal, Timestamp.valueOf(now))))) {
+            notificationPushService.publish(NotificationPushMessage.of(
+                    notificationId, null, boardId, event.getWriterId(), event.getTitle(), NoticeType.POST, isGlobal, now
+            ));
+        }
+    }
+
+    // 트랜잭션으로 묶어 실패 시 전체 롤백 후 재시도 (중복 저장 방지)
+    private boolean insertWithRetry(List<Object[]> rows) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, rows));
+                return true;
+            } catch (DataAccessException e) {
+                if (attempt >= StaticValue.NOTIFICATION_INSERT_MAX_ATTEMPTS) {
+                    log.error("Failed to insert {} notifications after {} attempts: {}", rows.size(), attempt, e.getMessage());
+                    failedNotifications.increment(rows.size());
+                    return false;
+                }
+
+                log.warn("Failed to insert notifications (attempt {}): {}", attempt, e.getMessage());
+                if (!sleep(StaticValue.NOTIFICATION_INSERT_RETRY_BACKOFF << (attempt - 1))) {
+                    failedNotifications.increment(rows.size());
+                    return false;
+                }
+            }
+        }
+    }
+
+    private Object[] toRow(String id, String userId, String boardId, String writerId, String content, boolean isGlobal, Timestamp now) {
+        return new Object[]{id, userId, boardId, writerId, content, NoticeType.POST.name(), isGlobal, now, now};
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
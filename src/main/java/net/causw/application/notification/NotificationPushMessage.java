@@ -0,0 +1,51 @@
+package net.causw.application.notification;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.causw.adapter.persistence.notification.Notification;
+import net.causw.domain.model.enums.notification.NoticeType;
+
+import java.time.LocalDateTime;
+
+// 저장된 알림을 실시간으로 전송하기 위한 메시지 (서버 간 Redis pub/sub 으로 전달되므로 JSON 직렬화 가능해야 함)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NotificationPushMessage {
+    private String notificationId;
+    private String userId;      // 개별 알림 대상 사용자
+    private String boardId;     // 게시판 구독 알림 대상 게시판
+    private String writerId;    // 게시판 구독 알림의 게시글 작성자 (작성자에게는 전송하지 않음)
+    private String content;
+    private NoticeType noticeType;
+    private Boolean isGlobal;   // 전체 사용자 대상 알림 여부
+    private LocalDateTime createdAt;
+
+    public static NotificationPushMessage of(Notification notification) {
+        return new NotificationPushMessage(
+                notification.getId(),
+                notification.getUser() == null ? null : notification.getUser().getId(),
+                notification.getBoard() == null ? null : notification.getBoard().getId(),
+                notification.getWriter() == null ? null : notification.getWriter().getId(),
+                notification.getContent(),
+                notification.getNoticeType(),
+                notification.getIsGlobal(),
+                notification.getCreatedAt()
+        );
+    }
+
+    public static NotificationPushMessage of(
+            String notificationId,
+            String userId,
+            String boardId,
+            String writerId,
+            String content,
+            NoticeType noticeType,
+            Boolean isGlobal,
+            LocalDateTime createdAt
+    ) {
+        return new NotificationPushMessage(notificationId, userId, boardId, writerId, content, noticeType, isGlobal, createdAt);
+    }
+}
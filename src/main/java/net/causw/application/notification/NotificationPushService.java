@@ -0,0 +1,99 @@
+package net.causw.application.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.user.User;
+import net.causw.application.dto.notification.NotificationResponseDto;
+import net.causw.application.dto.util.dtoMapper.NotificationDtoMapper;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 저장된 알림을 SSE로 실시간 전송합니다.
+ * 사용자가 어느 서버에 연결되어 있는지 알 수 없으므로 알림은 Redis pub/sub 채널로 모든 서버에 전달하고,
+ * 각 서버는 자신에게 연결된 대상 사용자에게만 전송합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPushService implements MessageListener {
+
+    private static final String NOTIFICATION_EVENT_NAME = "notification";
+
+    private final NotificationSseHub notificationSseHub;
+    private final BoardSubscriberIndex boardSubscriberIndex;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(StaticValue.NOTIFICATION_PUSH_CHANNEL));
+    }
+
+    public SseEmitter connect(User user) {
+        return notificationSseHub.connect(user.getId());
+    }
+
+    // 알림 저장 트랜잭션이 커밋된 뒤에만 전송
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationPushMessage message) {
+        publish(message);
+    }
+
+    public void publish(NotificationPushMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(StaticValue.NOTIFICATION_PUSH_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // Redis 장애 시 현재 서버에 연결된 사용자에게만 전송 (나머지는 알림함 조회로 확인)
+            log.warn("Failed to relay notification {}: {}", message.getNotificationId(), e.getMessage());
+            deliver(message);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            deliver(objectMapper.readValue(message.getBody(), NotificationPushMessage.class));
+        } catch (Exception e) {
+            log.warn("Failed to push notification: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(NotificationPushMessage message) {
+        NotificationResponseDto notification = NotificationDtoMapper.INSTANCE.toNotificationResponseDto(message);
+        Supplier<SseEmitter.SseEventBuilder> event = () -> SseEmitter.event()
+                .id(notification.getId())
+                .name(NOTIFICATION_EVENT_NAME)
+                .data(notification);
+
+        if (message.getUserId() != null) {
+            notificationSseHub.sendToUser(message.getUserId(), event);
+        } else if (Boolean.TRUE.equals(message.getIsGlobal())) {
+            notificationSseHub.sendToAll(event);
+        } else {
+            // 현재 서버에 연결된 사용자가 없으면 구독자를 조회하지 않음
+            Set<String> connectedUserIds = notificationSseHub.getConnectedUserIds();
+            if (connectedUserIds.isEmpty()) {
+                return;
+            }
+            // 직접 작성한 게시글의 알림은 작성자에게 보내지 않음
+            boardSubscriberIndex.filterSubscribers(message.getBoardId(), connectedUserIds).stream()
+                    .filter(userId -> !userId.equals(message.getWriterId()))
+                    .forEach(userId -> notificationSseHub.sendToUser(userId, event));
+        }
+    }
+}
@@ -2,38 +2,110 @@ package net.causw.application.notification;
 
 import lombok.RequiredArgsConstructor;
 import net.causw.adapter.persistence.board.Board;
+import net.causw.adapter.persistence.notification.Notification;
+import net.causw.adapter.persistence.notification.NotificationReadMark;
 import net.causw.adapter.persistence.notification.UserBoardSubscribe;
 import net.causw.adapter.persistence.repository.board.BoardRepository;
+import net.causw.adapter.persistence.repository.notification.NotificationReadMarkRepository;
 import net.causw.adapter.persistence.repository.notification.NotificationRepository;
 import net.causw.adapter.persistence.repository.notification.UserBoardSubscribeRepository;
 import net.causw.adapter.persistence.user.User;
+import net.causw.application.dto.notification.NotificationInboxResponseDto;
 import net.causw.application.dto.notification.NotificationResponseDto;
 import net.causw.application.dto.util.dtoMapper.NotificationDtoMapper;
+import net.causw.application.pageable.PageableFactory;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @MeasureTime
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
+    // 첫 페이지 조회 시 사용하는 커서 (모든 알림보다 뒤의 시각)
+    private static final LocalDateTime INITIAL_CURSOR_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String INITIAL_CURSOR_ID = "";
+
+    // 알림 정렬 기준: 생성 시간 내림차순, 같으면 id 내림차순 (커서 조건과 동일)
+    private static final Comparator<Notification> LATEST_FIRST = Comparator
+            .comparing(Notification::getCreatedAt)
+            .thenComparing(Notification::getId)
+            .reversed();
+
     private final NotificationRepository notificationRepository;
     private final UserBoardSubscribeRepository userBoardSubscribeRepository;
     private final BoardRepository boardRepository;
+    private final NotificationReadMarkRepository notificationReadMarkRepository;
+    private final PageableFactory pageableFactory;
+    private final BoardSubscriberIndex boardSubscriberIndex;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional(readOnly = true)
     public List<NotificationResponseDto> findUserNotice(User user) {
-        return notificationRepository.findUserNotice(user.getId()).stream()
-                .map(NotificationDtoMapper.INSTANCE::toNotificationResponseDto)
+        LocalDateTime lastReadAt = getLastReadAt(user);
+        return findMergedNotifications(user, INITIAL_CURSOR_CREATED_AT, INITIAL_CURSOR_ID, StaticValue.NOTIFICATION_PREVIEW_SIZE)
+                .stream()
+                .limit(StaticValue.NOTIFICATION_PREVIEW_SIZE)
+                .map(notification -> toNotificationResponseDto(notification, lastReadAt))
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public NotificationInboxResponseDto findInbox(User user, LocalDateTime cursorCreatedAt, String cursorId) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    MessageUtil.INVALID_NOTIFICATION_CURSOR
+            );
+        }
+
+        LocalDateTime lastReadAt = getLastReadAt(user);
+        List<Notification> notifications = findMergedNotifications(
+                user,
+                cursorCreatedAt == null ? INITIAL_CURSOR_CREATED_AT : cursorCreatedAt,
+                cursorId == null ? INITIAL_CURSOR_ID : cursorId,
+                StaticValue.NOTIFICATION_PAGE_SIZE
+        );
+
+        boolean hasNext = notifications.size() > StaticValue.NOTIFICATION_PAGE_SIZE;
+        List<Notification> page = hasNext ? notifications.subList(0, StaticValue.NOTIFICATION_PAGE_SIZE) : notifications;
+        Notification last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        long unreadCount = notificationRepository.countUnreadGlobalNotifications(lastReadAt)
+                + notificationRepository.countUnreadSubscribedBoardNotifications(user.getId(), lastReadAt)
+                + notificationRepository.countUnreadUserNotifications(user.getId(), lastReadAt);
+
+        return NotificationDtoMapper.INSTANCE.toNotificationInboxResponseDto(
+                page.stream()
+                        .map(notification -> toNotificationResponseDto(notification, lastReadAt))
+                        .toList(),
+                unreadCount,
+                hasNext,
+                last == null ? null : last.getCreatedAt(),
+                last == null ? null : last.getId()
+        );
+    }
+
+    // 읽음 기준 시각을 현재 시각으로 옮겨 지금까지의 알림을 모두 읽음 처리
+    @Transactional
+    public void readAllNotice(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        notificationReadMarkRepository.findByUser_Id(user.getId())
+                .ifPresentOrElse(
+                        readMark -> readMark.updateLastReadAt(now),
+                        () -> notificationReadMarkRepository.save(NotificationReadMark.of(user, now))
+                );
+    }
+
     @Transactional
     public void setNotice(User user, String boardId) {
         Board board = boardRepository.findById(boardId).orElseThrow(
@@ -44,18 +116,65 @@ public class NotificationService {
         );
 
         Optional<UserBoardSubscribe> find = userBoardSubscribeRepository.findByUser_IdAndBoard_Id(user.getId(), boardId);
+        UserBoardSubscribe userBoardSubscribe;
         if (find.isPresent()) {
-            UserBoardSubscribe userBoardSubscribe = find.get();
-            userBoardSubscribeRepository.save(userBoardSubscribe.toggle());
+            userBoardSubscribe = userBoardSubscribeRepository.save(find.get().toggle());
         } else {
-            userBoardSubscribeRepository.save(UserBoardSubscribe.of(user, board, true));
+            userBoardSubscribe = userBoardSubscribeRepository.save(UserBoardSubscribe.of(user, board, true));
         }
+        applicationEventPublisher.publishEvent(BoardSubscriptionChangedEvent.of(userBoardSubscribe));
     }
 
     @Transactional
     public Boolean checkNotice(User user, String boardId) {
-        return userBoardSubscribeRepository.findByUser_IdAndBoard_Id(user.getId(), boardId)
-                .map(UserBoardSubscribe::getIsSubscribed)
-                .orElse(false);
+        return boardSubscriberIndex.isSubscribed(user.getId(), boardId);
+    }
+
+    /**
+     * 전체 알림, 구독 게시판 알림, 개별 알림을 커서 이후로 각각 size + 1개씩 조회한 뒤 k-way merge 합니다.
+     * 병합 결과의 앞 size + 1개는 반드시 각 출처의 앞 size + 1개 안에 있으므로, 다음 페이지 존재 여부까지 판단할 수 있습니다.
+     */
+    private List<Notification> findMergedNotifications(User user, LocalDateTime cursorCreatedAt, String cursorId, int size) {
+        Pageable pageable = pageableFactory.create(0, size + 1);
+        List<List<Notification>> sources = List.of(
+                notificationRepository.findGlobalNotifications(cursorCreatedAt, cursorId, pageable),
+                notificationRepository.findSubscribedBoardNotifications(user.getId(), cursorCreatedAt, cursorId, pageable),
+                notificationRepository.findUserNotifications(user.getId(), cursorCreatedAt, cursorId, pageable)
+        );
+
+        // {출처 index, 출처 내 위치}를 각 출처의 현재 알림 기준으로 정렬
+        PriorityQueue<int[]> heads = new PriorityQueue<>(
+                (a, b) -> LATEST_FIRST.compare(sources.get(a[0]).get(a[1]), sources.get(b[0]).get(b[1]))
+        );
+        for (int source = 0; source < sources.size(); source++) {
+            if (!sources.get(source).isEmpty()) {
+                heads.add(new int[]{source, 0});
+            }
+        }
+
+        List<Notification> merged = new ArrayList<>();
+        while (!heads.isEmpty() && merged.size() < size + 1) {
+            int[] head = heads.poll();
+            List<Notification> source = sources.get(head[0]);
+            merged.add(source.get(head[1]));
+            if (head[1] + 1 < source.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+
+    // 읽음 기록이 없으면 가입 시점을 기준으로 함
+    private LocalDateTime getLastReadAt(User user) {
+        return notificationReadMarkRepository.findByUser_Id(user.getId())
+                .map(NotificationReadMark::getLastReadAt)
+                .orElse(user.getCreatedAt());
+    }
+
+    private NotificationResponseDto toNotificationResponseDto(Notification notification, LocalDateTime lastReadAt) {
+        return NotificationDtoMapper.INSTANCE.toNotificationResponseDto(
+                notification,
+                !notification.getCreatedAt().isAfter(lastReadAt)
+        );
     }
 }
@@ -0,0 +1,241 @@
+package net.causw.application.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 현재 서버에 연결된 SSE 연결을 사용자별로 관리하고 이벤트를 전송합니다.
+ * 이벤트는 연결별 bounded 버퍼에 넣기만 하고 전송은 전용 스레드 풀에서 연결마다 순서대로 처리하므로,
+ * 알림을 발행하는 스레드는 클라이언트의 수신 속도와 관계없이 막히지 않습니다.
+ * 버퍼가 가득 찰 만큼 느린 연결은 끊어 메모리 사용량을 제한하며, 클라이언트는 재연결 후 알림함을 다시 조회합니다.
+ * 전송(소켓 쓰기)이 NOTIFICATION_SSE_SEND_TIMEOUT 이상 멈춘 연결은 끊고 전송 스레드를 interrupt 하여,
+ * 멈춘 클라이언트 하나가 전송 스레드를 붙잡아 다른 연결의 전송이 밀리지 않도록 합니다.
+ * 연결 종료(emitter.complete)는 멈춘 전송이 잡고 있는 emitter 잠금을 기다릴 수 있으므로 전용 스레드에서 처리하여,
+ * 스케줄러 스레드나 알림을 발행하는 스레드가 막히지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class NotificationSseHub {
+
+    private final Map<String, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+    private final ThreadPoolExecutor closer;
+    private final Counter evictedConnections;
+    private final Counter stalledConnections;
+
+    public NotificationSseHub(MeterRegistry meterRegistry) {
+        this.sender = new ThreadPoolExecutor(
+                StaticValue.NOTIFICATION_SSE_SENDER_THREADS, StaticValue.NOTIFICATION_SSE_SENDER_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(StaticValue.NOTIFICATION_SSE_SENDER_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("notification-sse-")
+        );
+        this.closer = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(StaticValue.NOTIFICATION_SSE_SENDER_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("notification-sse-closer-")
+        );
+
+        Gauge.builder("notification.push.connections", connections, map -> map.values().stream().mapToInt(List::size).sum())
+                .description("현재 서버에 연결된 실시간 알림 연결 수")
+                .register(meterRegistry);
+        this.evictedConnections = Counter.builder("notification.push.evicted")
+                .description("전송 버퍼가 가득 차 끊은 느린 연결 수")
+                .register(meterRegistry);
+        this.stalledConnections = Counter.builder("notification.push.stalled")
+                .description("전송이 멈춰 끊은 연결 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter connect(String userId) {
+        Connection connection = new Connection(userId, new SseEmitter(StaticValue.NOTIFICATION_SSE_TIMEOUT));
+        connection.emitter.onCompletion(() -> remove(connection));
+        connection.emitter.onTimeout(() -> close(connection));
+        connection.emitter.onError(e -> close(connection));
+
+        // 사용자별 연결 수를 제한하고, 초과 시 가장 오래된 연결을 끊음
+        List<Connection> evicted = new ArrayList<>();
+        connections.compute(userId, (key, userConnections) -> {
+            List<Connection> updated = userConnections == null ? new CopyOnWriteArrayList<>() : userConnections;
+            while (updated.size() >= StaticValue.NOTIFICATION_SSE_MAX_CONNECTIONS_PER_USER) {
+                evicted.add(updated.remove(0));
+            }
+            updated.add(connection);
+            return updated;
+        });
+        evicted.forEach(this::close);
+
+        // 연결 직후 응답 헤더가 바로 전송되도록 첫 이벤트를 보냄
+        enqueue(connection, SseEmitter.event().name("connect").data("connected"));
+        return connection.emitter;
+    }
+
+    public void sendToUser(String userId, Supplier<SseEmitter.SseEventBuilder> event) {
+        connections.getOrDefault(userId, List.of())
+                .forEach(connection -> enqueue(connection, event.get()));
+    }
+
+    public void sendToAll(Supplier<SseEmitter.SseEventBuilder> event) {
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection -> enqueue(connection, event.get()))
+        );
+    }
+
+    public Set<String> getConnectedUserIds() {
+        return connections.keySet();
+    }
+
+    @Scheduled(cron = "*/20 * * * * ?") // 20초마다 실행, 프록시의 유휴 연결 종료를 막고 끊어진 연결을 정리
+    public void sendHeartbeat() {
+        sendToAll(() -> SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Scheduled(cron = "*/5 * * * * ?") // 5초마다 실행, 전송이 멈춘 연결을 끊어 전송 스레드를 돌려받음
+    public void closeStalledConnections() {
+        long deadline = System.currentTimeMillis() - StaticValue.NOTIFICATION_SSE_SEND_TIMEOUT;
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> {
+            synchronized (connection) {
+                if (connection.sendingThread == null || connection.sendStartedAt > deadline) {
+                    return;
+                }
+                stalledConnections.increment();
+                log.debug("Closing stalled notification connection of user {}", connection.userId);
+                connection.sendingThread.interrupt();
+            }
+            close(connection);
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(this::close));
+        sender.shutdownNow();
+        closer.shutdown();
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed) {
+            return;
+        }
+        if (!connection.buffer.offer(event)) {
+            evictedConnections.increment();
+            log.debug("Evicting slow notification connection of user {}", connection.userId);
+            close(connection);
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    // 연결마다 하나의 작업만 전송하도록 하여 이벤트 순서를 보장
+    private void scheduleDrain(Connection connection) {
+        if (!connection.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            // 전송 작업 큐가 가득 찬 경우, 버퍼에 남은 이벤트는 다음 이벤트나 heartbeat 때 전송
+            connection.draining.set(false);
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.closed && (event = connection.buffer.poll()) != null) {
+                send(connection, event);
+            }
+        } catch (Exception e) {
+            // 클라이언트가 연결을 끊은 경우
+            close(connection);
+        } finally {
+            connection.draining.set(false);
+        }
+
+        // 전송을 마치는 사이에 들어온 이벤트가 남지 않도록 다시 확인
+        if (!connection.closed && !connection.buffer.isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    // 전송 중인 스레드를 기록해 두어 closeStalledConnections 가 전송 중일 때만 interrupt 하도록 함
+    private void send(Connection connection, SseEmitter.SseEventBuilder event) throws IOException {
+        synchronized (connection) {
+            connection.sendingThread = Thread.currentThread();
+            connection.sendStartedAt = System.currentTimeMillis();
+        }
+        try {
+            connection.emitter.send(event);
+        } finally {
+            synchronized (connection) {
+                connection.sendingThread = null;
+                // 전송이 끝난 직후 도착한 interrupt 가 같은 스레드의 다음 연결 전송을 실패시키지 않도록 지움
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private void close(Connection connection) {
+        connection.closed = true;
+        remove(connection);
+        try {
+            closer.execute(() -> {
+                try {
+                    connection.emitter.complete();
+                } catch (Exception e) {
+                    log.debug("Failed to complete notification connection: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 더 이상 전송하지 않으므로 emitter 는 NOTIFICATION_SSE_TIMEOUT 이 지나면 정리됨
+            log.debug("Notification connection close queue is full, leaving user {} to time out", connection.userId);
+        }
+    }
+
+    private void remove(Connection connection) {
+        connection.closed = true;
+        connection.buffer.clear();
+        connections.computeIfPresent(connection.userId, (key, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private static final class Connection {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(StaticValue.NOTIFICATION_SSE_BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private Thread sendingThread;    // connection 으로 동기화
+        private long sendStartedAt;
+
+        private Connection(String userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
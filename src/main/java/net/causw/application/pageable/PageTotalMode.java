@@ -0,0 +1,8 @@
+package net.causw.application.pageable;
+
+// 페이지 조회 시 전체 개수(totalElements, totalPages) 계산 방식
+public enum PageTotalMode {
+    EXACT,          // 매 요청마다 COUNT 쿼리로 계산 (기본값)
+    APPROXIMATE,    // 일정 시간 동안 캐시한 COUNT 결과를 사용
+    NONE            // COUNT 쿼리 없이 다음 페이지 존재 여부만 계산 (전체 개수는 지금까지 확인된 개수)
+}
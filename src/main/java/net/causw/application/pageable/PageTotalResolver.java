@@ -0,0 +1,60 @@
+package net.causw.application.pageable;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * COUNT 쿼리 없이 (size + 1)개로 조회한 Slice 를 요청한 전체 개수 계산 방식에 따라 Page 로 변환합니다.
+ * 전체 개수가 필요 없는 클라이언트는 NONE, 대략적인 페이지 수만 필요한 클라이언트는 APPROXIMATE 로 COUNT 비용을 피할 수 있으며,
+ * EXACT 도 마지막 페이지처럼 조회 결과만으로 전체 개수를 알 수 있으면 COUNT 쿼리를 실행하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageTotalResolver {
+
+    private final RedisUtils redisUtils;
+
+    public <T> Page<T> resolve(Slice<T> slice, PageTotalMode pageTotalMode, String countKey, LongSupplier count) {
+        // 지금까지 확인된 개수 (다음 페이지가 있으면 최소 1개 더 있음)
+        long knownTotal = slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+
+        return switch (pageTotalMode == null ? PageTotalMode.EXACT : pageTotalMode) {
+            case EXACT -> PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(), count);
+            case APPROXIMATE -> new PageImpl<>(
+                    slice.getContent(),
+                    slice.getPageable(),
+                    slice.hasNext() ? Math.max(getApproximateTotal(countKey, count), knownTotal) : knownTotal
+            );
+            case NONE -> new PageImpl<>(slice.getContent(), slice.getPageable(), knownTotal);
+        };
+    }
+
+    private long getApproximateTotal(String countKey, LongSupplier count) {
+        try {
+            Long cachedTotal = redisUtils.getPageTotal(countKey);
+            if (cachedTotal != null) {
+                return cachedTotal;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read page total cache: {}", e.getMessage());
+        }
+
+        long total = count.getAsLong();
+        try {
+            redisUtils.setPageTotal(countKey, total, StaticValue.PAGE_TOTAL_CACHE_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to write page total cache: {}", e.getMessage());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,16 @@
+package net.causw.application.post;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 생성/수정/삭제/복구 시 발행되는 이벤트 (게시판 단위 캐시 무효화 용도)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostChangedEvent {
+    private final String boardId;
+
+    public static PostChangedEvent of(String boardId) {
+        return new PostChangedEvent(boardId);
+    }
+}
@@ -0,0 +1,54 @@
+package net.causw.application.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.repository.post.PostRepository;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 게시글의 좋아요/즐겨찾기/댓글/대댓글 집계 컬럼은 각 서비스에서 원자적 UPDATE로 증감합니다.
+ * 누락된 증감 보정을 위해 매일 한 번 실제 데이터 기준으로 재계산합니다.
+ * 컬럼이 새로 추가된 기존 게시글은 배포 직후 scripts/post_count_backfill.sql 로 한 번 채웁니다.
+ * 여러 서버 중 한 곳에서만 실행하며, 행 잠금을 오래 잡지 않도록 id 범위로 나누어 범위마다 커밋합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCountSyncService {
+
+    private static final String JOB_NAME = "PostCountSync";
+
+    private final PostRepository postRepository;
+    private final RedisUtils redisUtils;
+
+    @Scheduled(cron = "0 30 4 * * ?") // 매일 오전 4시 30분에 실행
+    public void syncPostCounts() {
+        try {
+            if (!redisUtils.tryAcquireJobLock(JOB_NAME, StaticValue.POST_COUNT_SYNC_LOCK_TTL)) {
+                return;
+            }
+        } catch (Exception e) {
+            // 다른 서버와 동시에 실행되지 않도록 Redis를 사용할 수 없으면 다음 실행으로 미룸
+            log.warn("Failed to acquire post count sync lock: {}", e.getMessage());
+            return;
+        }
+
+        String lastId = "";
+        int updatedRows = 0;
+        while (true) {
+            List<String> ids = postRepository.findIdsAfter(lastId, StaticValue.POST_COUNT_SYNC_BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            String toId = ids.get(ids.size() - 1);
+            updatedRows += postRepository.syncCountsInRange(lastId, toId);
+            lastId = toId;
+        }
+        log.info("Post counts synchronized: {} rows", updatedRows);
+    }
+}
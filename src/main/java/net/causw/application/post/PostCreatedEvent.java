@@ -0,0 +1,27 @@
+package net.causw.application.post;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.causw.adapter.persistence.post.Post;
+
+// 게시글 생성 시 발행되는 이벤트 (구독자 알림 발송 용도)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCreatedEvent {
+    private final String postId;
+    private final String boardId;
+    private final String writerId;
+    private final String title;
+    private final boolean isDefaultNotice;
+
+    public static PostCreatedEvent of(Post post) {
+        return new PostCreatedEvent(
+                post.getId(),
+                post.getBoard().getId(),
+                post.getWriter().getId(),
+                post.getTitle(),
+                Boolean.TRUE.equals(post.getBoard().getIsDefaultNotice())
+        );
+    }
+}
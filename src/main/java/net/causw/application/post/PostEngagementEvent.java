@@ -0,0 +1,27 @@
+package net.causw.application.post;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.causw.adapter.persistence.post.Post;
+import net.causw.domain.model.enums.post.PostEngagementType;
+
+// 게시글 좋아요/즐겨찾기/댓글/대댓글 증감 시 발행되는 이벤트 (인기 게시글 점수 반영 용도)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostEngagementEvent {
+    private final String postId;
+    private final String boardId;
+    private final boolean isCircleBoard;
+    private final PostEngagementType type;
+    private final String engagementId;  // 좋아요/즐겨찾기는 사용자 id, 댓글/대댓글은 댓글 id (취소 시 더한 점수를 찾기 위함)
+    private final boolean isCanceled;
+
+    public static PostEngagementEvent of(Post post, PostEngagementType type, String engagementId) {
+        return new PostEngagementEvent(post.getId(), post.getBoard().getId(), post.getBoard().getCircle() != null, type, engagementId, false);
+    }
+
+    public static PostEngagementEvent canceled(Post post, PostEngagementType type, String engagementId) {
+        return new PostEngagementEvent(post.getId(), post.getBoard().getId(), post.getBoard().getCircle() != null, type, engagementId, true);
+    }
+}
@@ -0,0 +1,61 @@
+package net.causw.application.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 게시글의 좋아요/즐겨찾기/댓글/대댓글 활동을 시간 감쇠 점수로 누적하여 인기 게시글 랭킹을 관리합니다.
+ * 활동 하나의 점수는 가중치 * 2^((활동 시각 - 기준 시각) / 반감기)이며, 모든 게시글의 점수가 같은 비율로 감쇠하므로
+ * 저장된 점수를 다시 계산하지 않고 활동이 있을 때만 해당 게시글의 점수를 증감합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRankingService {
+
+    private final RedisUtils redisUtils;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostEngagement(PostEngagementEvent event) {
+        // 랭킹 반영 실패가 좋아요/댓글 요청에 영향을 주지 않도록 예외는 기록만 함
+        try {
+            redisUtils.addHotPostScore(
+                    event.getBoardId(),
+                    event.getPostId(),
+                    event.getType().name() + ":" + event.getEngagementId(),
+                    toLogScore(event.getType().getWeight(), System.currentTimeMillis()),
+                    event.isCanceled(),
+                    !event.isCircleBoard()
+            );
+        } catch (Exception e) {
+            log.warn("Failed to update hot post score: {}", e.getMessage());
+        }
+    }
+
+    // 전체 게시판(동아리 게시판 제외)의 인기 게시글 id (점수 내림차순)
+    public List<String> findHotPostIds(long size) {
+        return findHotPostIds(null, size);
+    }
+
+    // 특정 게시판의 인기 게시글 id (점수 내림차순)
+    public List<String> findHotPostIds(String boardId, long size) {
+        try {
+            return redisUtils.getHotPostIds(boardId, size);
+        } catch (Exception e) {
+            log.warn("Failed to read hot posts: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private double toLogScore(double weight, long timestamp) {
+        return Math.log(weight)
+                + Math.log(2) * (timestamp - StaticValue.HOT_POST_SCORE_EPOCH) / StaticValue.HOT_POST_HALF_LIFE;
+    }
+}
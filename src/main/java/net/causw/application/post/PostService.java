@@ -4,16 +4,10 @@ import lombok.RequiredArgsConstructor;
 import net.causw.adapter.persistence.board.Board;
 import net.causw.adapter.persistence.circle.Circle;
 import net.causw.adapter.persistence.circle.CircleMember;
-import net.causw.adapter.persistence.comment.ChildComment;
-import net.causw.adapter.persistence.comment.Comment;
 import net.causw.adapter.persistence.form.Form;
 import net.causw.adapter.persistence.form.FormQuestionOption;
 import net.causw.adapter.persistence.form.FormQuestion;
 import net.causw.adapter.persistence.repository.form.FormRepository;
-import net.causw.adapter.persistence.notification.Notification;
-import net.causw.adapter.persistence.notification.UserBoardSubscribe;
-import net.causw.adapter.persistence.repository.notification.NotificationRepository;
-import net.causw.adapter.persistence.repository.notification.UserBoardSubscribeRepository;
 import net.causw.adapter.persistence.repository.uuidFile.PostAttachImageRepository;
 import net.causw.adapter.persistence.repository.vote.VoteRecordRepository;
 import net.causw.adapter.persistence.uuidFile.joinEntity.PostAttachImage;
@@ -29,50 +23,55 @@ import net.causw.application.dto.user.UserResponseDto;
 import net.causw.application.dto.util.dtoMapper.*;
 import net.causw.application.dto.vote.VoteOptionResponseDto;
 import net.causw.application.dto.vote.VoteResponseDto;
+import net.causw.application.pageable.PageTotalMode;
+import net.causw.application.pageable.PageTotalResolver;
 import net.causw.application.pageable.PageableFactory;
-import net.causw.adapter.persistence.post.FavoritePost;
-import net.causw.adapter.persistence.post.LikePost;
 import net.causw.adapter.persistence.post.Post;
 import net.causw.adapter.persistence.repository.board.BoardRepository;
-import net.causw.adapter.persistence.repository.board.FavoriteBoardRepository;
 import net.causw.adapter.persistence.repository.circle.CircleMemberRepository;
-import net.causw.adapter.persistence.repository.comment.ChildCommentRepository;
 import net.causw.adapter.persistence.repository.comment.CommentRepository;
-import net.causw.adapter.persistence.repository.comment.LikeChildCommentRepository;
-import net.causw.adapter.persistence.repository.comment.LikeCommentRepository;
 import net.causw.adapter.persistence.repository.post.FavoritePostRepository;
 import net.causw.adapter.persistence.repository.post.LikePostRepository;
 import net.causw.adapter.persistence.repository.post.PostRepository;
+import net.causw.adapter.persistence.repository.post.PostSummaryProjection;
 import net.causw.adapter.persistence.repository.user.UserRepository;
 import net.causw.adapter.persistence.user.User;
 import net.causw.adapter.persistence.uuidFile.UuidFile;
-import net.causw.application.dto.comment.ChildCommentResponseDto;
-import net.causw.application.dto.comment.CommentResponseDto;
 import net.causw.application.dto.post.*;
 import net.causw.application.dto.util.StatusUtil;
+import net.causw.application.board.FavoriteBoardCache;
+import net.causw.application.comment.CommentPageLoader;
+import net.causw.application.dto.reaction.ReactionResponseDto;
+import net.causw.application.reaction.ReactionResult;
+import net.causw.application.reaction.ReactionService;
+import net.causw.application.reaction.ReactionType;
 import net.causw.application.uuidFile.UuidFileService;
+import net.causw.config.search.PostFullTextIndex;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.exceptions.UnauthorizedException;
-import net.causw.domain.model.enums.notification.NoticeType;
+import net.causw.domain.model.enums.post.PostEngagementType;
 import net.causw.domain.model.enums.circle.CircleMemberStatus;
 import net.causw.domain.model.enums.form.QuestionType;
-import net.causw.domain.model.enums.uuidFile.FileExtensionType;
 import net.causw.domain.model.enums.uuidFile.FilePath;
 import net.causw.domain.model.enums.user.Role;
 import net.causw.domain.model.util.MessageUtil;
 import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.validation.*;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.validation.Validator;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -82,6 +81,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    private static final LocalDateTime INITIAL_CURSOR_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String INITIAL_CURSOR_ID = "";
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
@@ -89,31 +90,36 @@ public class PostService {
     private final CircleMemberRepository circleMemberRepository;
     private final VoteRecordRepository voteRecordRepository;
     private final CommentRepository commentRepository;
-    private final ChildCommentRepository childCommentRepository;
-    private final FavoriteBoardRepository favoriteBoardRepository;
+    private final FavoriteBoardCache favoriteBoardCache;
     private final LikePostRepository likePostRepository;
     private final FavoritePostRepository favoritePostRepository;
-    private final LikeCommentRepository likeCommentRepository;
-    private final LikeChildCommentRepository likeChildCommentRepository;
-    private final NotificationRepository notificationRepository;
-    private final UserBoardSubscribeRepository userBoardSubscribeRepository;
     private final PageableFactory pageableFactory;
     private final Validator validator;
     private final UuidFileService uuidFileService;
     private final PostAttachImageRepository postAttachImageRepository;
     private final FormRepository formRepository;
+    private final PostFullTextIndex postFullTextIndex;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CommentPageLoader commentPageLoader;
+    private final PostViewCountService postViewCountService;
+    private final PostRankingService postRankingService;
+    private final ReactionService reactionService;
+    private final PostSummaryLoader postSummaryLoader;
+    private final PageTotalResolver pageTotalResolver;
 
     public PostResponseDto findPostById(User user, String postId) {
         Post post = getPost(postId);
         ValidatorBucket validatorBucket = initializeValidator(user, post.getBoard());
         validatorBucket.validate();
+        postViewCountService.increaseViewCount(postId, user.getId());
         return toPostResponseDtoExtended(post, user);
     }
 
     public BoardPostsResponseDto findAllPost(
             User user,
             String boardId,
-            Integer pageNum
+            Integer pageNum,
+            PageTotalMode pageTotalMode
     ) {
         Set<Role> roles = user.getRoles();  // 사용자의 역할 가져오기
         Board board = getBoard(boardId);    // 게시판 정보 가져오기
@@ -134,8 +140,12 @@ public class PostService {
                     board,
                     roles,
                     isFavorite(user.getId(), board.getId()),
-                    postRepository.findAllByBoard_IdOrderByCreatedAtDesc(boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
-                            .map(this::toPostsResponseDto)
+                    postSummaryLoader.load(pageTotalResolver.resolve(
+                            postRepository.findSummariesByBoard_Id(boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE)),
+                            pageTotalMode,
+                            "board:" + boardId + ":all",
+                            () -> postRepository.countByBoard_Id(boardId)
+                    ))
             );
         } else {
             // 일반 사용자는 삭제되지 않은 게시글만 조회
@@ -143,12 +153,65 @@ public class PostService {
                     board,
                     roles,
                     isFavorite(user.getId(), board.getId()),
-                    postRepository.findAllByBoard_IdAndIsDeletedOrderByCreatedAtDesc(boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE), false)
-                            .map(this::toPostsResponseDto)
+                    postSummaryLoader.load(pageTotalResolver.resolve(
+                            postRepository.findSummariesByBoard_IdAndIsDeletedIsFalse(boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE)),
+                            pageTotalMode,
+                            "board:" + boardId,
+                            () -> postRepository.countByBoard_IdAndIsDeletedIsFalse(boardId)
+                    ))
             );
         }
     }
 
+    public BoardPostsCursorResponseDto findAllPostByCursor(
+            User user,
+            String boardId,
+            LocalDateTime cursorCreatedAt,
+            String cursorId
+    ) {
+        Set<Role> roles = user.getRoles();
+        Board board = getBoard(boardId);
+
+        ValidatorBucket validatorBucket = initializeValidator(user, board);
+        validatorBucket.validate();
+
+        // 커서는 (생성 시간, id) 쌍으로만 유효. 둘 다 없으면 첫 페이지 조회
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    MessageUtil.INVALID_POST_CURSOR
+            );
+        }
+
+        boolean isCircleLeader = false;
+        if (roles.contains(Role.LEADER_CIRCLE)) {
+            isCircleLeader = getCircleLeader(board.getCircle()).getId().equals(user.getId());
+        }
+
+        // 리더, 관리자, 회장인 경우 삭제된 게시글도 포함하여 조회 (findAllPost와 동일)
+        boolean includeDeleted = isCircleLeader || roles.contains(Role.ADMIN) || roles.contains(Role.PRESIDENT);
+        Pageable pageable = pageableFactory.create(0, StaticValue.DEFAULT_POST_PAGE_SIZE);
+
+        // 커서가 없으면 모든 게시글보다 뒤에 있는 초기 커서로 첫 페이지 조회
+        LocalDateTime createdAt = cursorCreatedAt == null ? INITIAL_CURSOR_CREATED_AT : cursorCreatedAt;
+        String id = cursorId == null ? INITIAL_CURSOR_ID : cursorId;
+        Slice<PostSummaryProjection> posts = includeDeleted ?
+                postRepository.findSummariesByBoard_IdAfterCursor(boardId, createdAt, id, pageable) :
+                postRepository.findSummariesByBoard_IdAndIsDeletedIsFalseAfterCursor(boardId, createdAt, id, pageable);
+
+        PostSummaryProjection lastPost = posts.hasContent() ? posts.getContent().get(posts.getNumberOfElements() - 1) : null;
+
+        return PostDtoMapper.INSTANCE.toBoardPostsCursorResponseDto(
+                board,
+                isWritable(board, roles),
+                isFavorite(user.getId(), board.getId()),
+                postSummaryLoader.load(posts.getContent()),
+                posts.hasNext(),
+                lastPost != null ? lastPost.getCreatedAt() : null,
+                lastPost != null ? lastPost.getId() : null
+        );
+    }
+
     @Transactional(readOnly = true)
     public BoardPostsResponseDto searchPost(
             User user,
@@ -175,19 +238,40 @@ public class PostService {
                     board,
                     roles,
                     isFavorite(user.getId(), board.getId()),
-                    postRepository.findByTitleAndBoard_Id(keyword, boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
-                            .map(this::toPostsResponseDto));
+                    postSummaryLoader.load(searchPostsByKeyword(keyword, boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE), true)));
         } else {
             return toBoardPostsResponseDto(
                     board,
                     roles,
                     isFavorite(user.getId(), board.getId()),
-                    postRepository.findByTitleBoard_IdAndDeleted(keyword, boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE), false)
-                            .map(this::toPostsResponseDto));
+                    postSummaryLoader.load(searchPostsByKeyword(keyword, boardId, pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE), false)));
+        }
+    }
+
+    // FULLTEXT 인덱스를 사용할 수 있고 검색어가 ngram 토큰 길이 이상이면 제목+내용 관련도 검색, 그 외에는 제목 LIKE 검색
+    private Page<PostSummaryProjection> searchPostsByKeyword(String keyword, String boardId, Pageable pageable, boolean includeDeleted) {
+        String trimmedKeyword = keyword.trim();
+        boolean useFullText = postFullTextIndex.isAvailable()
+                && trimmedKeyword.length() >= StaticValue.POST_SEARCH_NGRAM_TOKEN_SIZE;
+
+        if (useFullText) {
+            String phrase = toFullTextPhrase(trimmedKeyword);
+            return includeDeleted ?
+                    postRepository.searchByFullTextAndBoard_Id(phrase, boardId, pageable) :
+                    postRepository.searchByFullTextAndBoard_IdAndDeleted(phrase, boardId, pageable, false);
         }
+
+        return includeDeleted ?
+                postRepository.findByTitleAndBoard_Id(keyword, boardId, pageable) :
+                postRepository.findByTitleBoard_IdAndDeleted(keyword, boardId, pageable, false);
+    }
+
+    // BOOLEAN MODE의 필수 구문 검색(+"검색어")으로 ngram이 검색어 순서대로 모두 포함된 게시글만 조회 (LIKE 와 같은 부분 문자열 일치)
+    private String toFullTextPhrase(String keyword) {
+        return "+\"" + keyword.replace("\"", " ") + "\"";
     }
 
-    public BoardPostsResponseDto findAllAppNotice(User user, Integer pageNum) {
+    public BoardPostsResponseDto findAllAppNotice(User user, Integer pageNum, PageTotalMode pageTotalMode) {
         Set<Role> roles = user.getRoles();
         Board board = boardRepository.findAppNotice().orElseThrow(
                 () -> new BadRequestException(
@@ -200,8 +284,33 @@ public class PostService {
                 board,
                 roles,
                 isFavorite(user.getId(), board.getId()),
-                postRepository.findAllByBoard_IdOrderByCreatedAtDesc(board.getId(), pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
-                        .map(this::toPostsResponseDto));
+                postSummaryLoader.load(pageTotalResolver.resolve(
+                        postRepository.findSummariesByBoard_Id(board.getId(), pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE)),
+                        pageTotalMode,
+                        "board:" + board.getId() + ":all",
+                        () -> postRepository.countByBoard_Id(board.getId())
+                )));
+    }
+
+    public List<PostsResponseDto> findHotPosts(User user) {
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(user.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(user.getRoles()))
+                .validate();
+
+        // 삭제된 게시글이 랭킹에 남아 있을 수 있으므로 여유있게 조회한 뒤 걸러냄
+        return toHotPostsResponseDto(postRankingService.findHotPostIds(StaticValue.HOT_POST_PAGE_SIZE * 2L));
+    }
+
+    public List<PostsResponseDto> findHotPostsByBoard(User user, String boardId) {
+        Board board = getBoard(boardId);
+
+        ValidatorBucket validatorBucket = initializeValidator(user, board);
+        validatorBucket
+                .consistOf(TargetIsDeletedValidator.of(board.getIsDeleted(), StaticValue.DOMAIN_BOARD))
+                .validate();
+
+        return toHotPostsResponseDto(postRankingService.findHotPostIds(boardId, StaticValue.HOT_POST_PAGE_SIZE * 2L));
     }
 
     @Transactional
@@ -268,33 +377,11 @@ public class PostService {
                 .consistOf(ConstraintValidator.of(post, this.validator))
                 .validate();
 
-        // 게시물 알림
-        List<UserBoardSubscribe> byBoardId = userBoardSubscribeRepository.findByBoard_Id(postCreateRequestDto.getBoardId());
-        if (board.getIsDefaultNotice()) { // 전체 사용자가 알림 대상이면
-            notificationRepository.save(
-                    Notification.of(
-                            null,
-                            post.getTitle(),
-                            NoticeType.POST,
-                            true
-                    )
-            );
-        } else { // 개별 사용자에게 알림
-            for (UserBoardSubscribe user : byBoardId) {
-                if (!user.getUser().getId().equals(creator.getId())) {
-                    notificationRepository.save(
-                            Notification.of(
-                                    user.getUser(),
-                                    post.getTitle(),
-                                    NoticeType.POST,
-                                    false
-                            )
-                    );
-                }
-            }
-        }
+        Post savedPost = postRepository.save(post);
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(savedPost.getBoard().getId()));
+        applicationEventPublisher.publishEvent(PostCreatedEvent.of(savedPost)); // 구독자 알림은 커밋 이후 비동기로 발송
 
-        return toPostCreateResponseDto(postRepository.save(post));
+        return toPostCreateResponseDto(savedPost);
     }
 
     @Transactional
@@ -374,7 +461,10 @@ public class PostService {
                 .consistOf(ConstraintValidator.of(post, this.validator))
                 .validate();
 
-        return toPostCreateResponseDto(postRepository.save(post));
+        Post savedPost = postRepository.save(post);
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(savedPost.getBoard().getId()));
+
+        return toPostCreateResponseDto(savedPost);
     }
 
 
@@ -435,6 +525,7 @@ public class PostService {
         validatorBucket.validate();
 
         post.setIsDeleted(true);
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(post.getBoard().getId()));
     }
 
     @Transactional
@@ -493,6 +584,7 @@ public class PostService {
                 null,
                 postAttachImageList
         );
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(post.getBoard().getId()));
 
         return toPostResponseDtoExtended(post, updater);
     }
@@ -555,6 +647,7 @@ public class PostService {
                 form,
                 postAttachImageList
         );
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(post.getBoard().getId()));
     }
 
     @Transactional
@@ -623,10 +716,11 @@ public class PostService {
                 .validate();
 
         post.setIsDeleted(false);
+        applicationEventPublisher.publishEvent(PostChangedEvent.of(post.getBoard().getId()));
     }
 
     @Transactional
-    public void likePost(User user, String postId) {
+    public ReactionResponseDto likePost(User user, String postId) {
         Post post = getPost(postId);
 
         ValidatorBucket validatorBucket = ValidatorBucket.of();
@@ -634,16 +728,26 @@ public class PostService {
                 .consistOf(UserStateIsDeletedValidator.of(post.getWriter().getState()))
                 .validate();
 
-        if (isPostAlreadyLike(user, postId)) {
-            throw new BadRequestException(ErrorCode.ROW_ALREADY_EXIST, MessageUtil.POST_ALREADY_LIKED);
+        ReactionResult reactionResult = reactionService.react(ReactionType.POST_LIKE, postId, user.getId());
+        if (reactionResult.isChanged()) {
+            applicationEventPublisher.publishEvent(PostEngagementEvent.of(post, PostEngagementType.LIKE, user.getId()));
         }
+        return ReactionResponseDto.of(reactionResult);
+    }
+
+    @Transactional
+    public ReactionResponseDto cancelLikePost(User user, String postId) {
+        Post post = getPost(postId);
 
-        LikePost likePost = LikePost.of(post, user);
-        likePostRepository.save(likePost);
+        ReactionResult reactionResult = reactionService.cancel(ReactionType.POST_LIKE, postId, user.getId());
+        if (reactionResult.isChanged()) {
+            applicationEventPublisher.publishEvent(PostEngagementEvent.canceled(post, PostEngagementType.LIKE, user.getId()));
+        }
+        return ReactionResponseDto.of(reactionResult);
     }
 
     @Transactional
-    public void favoritePost(User user, String postId) {
+    public ReactionResponseDto favoritePost(User user, String postId) {
         Post post = getPost(postId);
 
         //FIXME : Validator 리팩토링 통합 후 해당 검사 로직을 해당방식으로 수정.
@@ -651,24 +755,16 @@ public class PostService {
             throw new BadRequestException(ErrorCode.TARGET_DELETED, MessageUtil.POST_DELETED);
         }
 
-        FavoritePost favoritePost;
-        if (isPostAlreadyFavorite(user, postId)) {
-            favoritePost = getFavoritePost(user, postId);
-            if (favoritePost.getIsDeleted()) {
-                favoritePost.setIsDeleted(false);
-            } else {
-                throw new BadRequestException(ErrorCode.ROW_ALREADY_EXIST, MessageUtil.POST_ALREADY_FAVORITED);
-            }
-        } else {
-            favoritePost = FavoritePost.of(post, user, false);
+        ReactionResult reactionResult = reactionService.react(ReactionType.POST_FAVORITE, postId, user.getId());
+        if (reactionResult.isChanged()) {
+            applicationEventPublisher.publishEvent(PostEngagementEvent.of(post, PostEngagementType.FAVORITE, user.getId()));
         }
-
-        favoritePostRepository.save(favoritePost);
+        return ReactionResponseDto.of(reactionResult);
     }
 
 
     @Transactional
-    public void cancelFavoritePost(User user, String postId) {
+    public ReactionResponseDto cancelFavoritePost(User user, String postId) {
         Post post = getPost(postId);
 
         //FIXME : Validator 리팩토링 통합 후 해당 검사 로직을 해당방식으로 수정.
@@ -676,22 +772,11 @@ public class PostService {
             throw new BadRequestException(ErrorCode.TARGET_DELETED, MessageUtil.POST_DELETED);
         }
 
-        FavoritePost favoritePost = getFavoritePost(user, postId);
-        if (favoritePost.getIsDeleted()) {
-            throw new BadRequestException(ErrorCode.ROW_ALREADY_EXIST, MessageUtil.FAVORITE_POST_ALREADY_DELETED);
-        } else {
-            favoritePost.setIsDeleted(true);
+        ReactionResult reactionResult = reactionService.cancel(ReactionType.POST_FAVORITE, postId, user.getId());
+        if (reactionResult.isChanged()) {
+            applicationEventPublisher.publishEvent(PostEngagementEvent.canceled(post, PostEngagementType.FAVORITE, user.getId()));
         }
-
-        favoritePostRepository.save(favoritePost);
-    }
-
-    private Boolean isPostAlreadyLike(User user, String postId) {
-        return likePostRepository.existsByPostIdAndUserId(postId, user.getId());
-    }
-
-    private Boolean isPostAlreadyFavorite(User user, String postId) {
-        return favoritePostRepository.existsByPostIdAndUserId(postId, user.getId());
+        return ReactionResponseDto.of(reactionResult);
     }
 
     private Boolean isPostDeleted(Post post) {
@@ -851,52 +936,49 @@ public class PostService {
     }
 
     private BoardPostsResponseDto toBoardPostsResponseDto(Board board, Set<Role> userRoles, boolean isFavorite, Page<PostsResponseDto> post) {
-        List<String> roles = Arrays.asList(board.getCreateRoles().split(","));
-        Boolean writable = userRoles.stream()
-                .map(Role::getValue)
-                .anyMatch(roles::contains);
         return PostDtoMapper.INSTANCE.toBoardPostsResponseDto(
                 board,
                 userRoles,
-                writable,
+                isWritable(board, userRoles),
                 isFavorite,
                 post
         );
     }
 
-    private PostsResponseDto toPostsResponseDto(Post post) {
-        PostAttachImage postThumbnailFile = (post.getPostAttachImageList() == null || post.getPostAttachImageList().isEmpty()) ?
-                null :
-                post.getPostAttachImageList()
-                        .stream()
-                        .filter(postAttachImage ->
-                                FileExtensionType.IMAGE.getExtensionList().contains(postAttachImage.getUuidFile().getExtension())
-                        ).findFirst()
-                        .orElse(null);
-
-        return PostDtoMapper.INSTANCE.toPostsResponseDto(
-                post,
-                postRepository.countAllCommentByPost_Id(post.getId()),
-                getNumOfPostLikes(post),
-                getNumOfPostFavorites(post),
-                postThumbnailFile,
-                StatusUtil.isPostVote(post),
-                StatusUtil.isPostForm(post)
+    private List<PostsResponseDto> toHotPostsResponseDto(List<String> hotPostIds) {
+        Map<String, PostSummaryProjection> posts = postRepository.findSummariesByIdInAndIsDeletedIsFalse(hotPostIds).stream()
+                .collect(Collectors.toMap(PostSummaryProjection::getId, post -> post));
+
+        return postSummaryLoader.load(
+                hotPostIds.stream()
+                        .map(posts::get)
+                        .filter(Objects::nonNull)
+                        .limit(StaticValue.HOT_POST_PAGE_SIZE)
+                        .toList()
         );
     }
 
+    private Boolean isWritable(Board board, Set<Role> userRoles) {
+        List<String> roles = Arrays.asList(board.getCreateRoles().split(","));
+        return userRoles.stream()
+                .map(Role::getValue)
+                .anyMatch(roles::contains);
+    }
+
     private PostResponseDto toPostResponseDtoExtended(Post post, User user) {
+        Boolean hasComment = isPostHasComment(post.getId());
+
         return PostDtoMapper.INSTANCE.toPostResponseDtoExtended(
-                postRepository.save(post),
-                findCommentsByPostIdByPage(user, post, 0),
-                postRepository.countAllCommentByPost_Id(post.getId()),
-                getNumOfPostLikes(post),
-                getNumOfPostFavorites(post),
-                isPostAlreadyLike(user, post.getId()),
-                isPostAlreadyFavorite(user, post.getId()),
+                post,
+                commentPageLoader.loadComments(user, post, 0, PageTotalMode.EXACT),
+                post.getNumAllComment(),
+                post.getNumLike(),
+                post.getNumFavorite(),
+                likePostRepository.existsByPostIdAndUserId(post.getId(), user.getId()),
+                favoritePostRepository.existsByPostIdAndUserIdAndIsDeletedFalse(post.getId(), user.getId()),
                 StatusUtil.isPostOwner(post,user),
-                StatusUtil.isUpdatable(post, user, isPostHasComment(post.getId())),
-                StatusUtil.isDeletable(post, user, post.getBoard(), isPostHasComment(post.getId())),
+                StatusUtil.isUpdatable(post, user, hasComment),
+                StatusUtil.isDeletable(post, user, post.getBoard(), hasComment),
                 StatusUtil.isPostForm(post) ? toFormResponseDto(post.getForm()) : null,
                 StatusUtil.isPostVote(post) ? toVoteResponseDto(post.getVote(), user) : null,
                 StatusUtil.isPostVote(post),
@@ -904,75 +986,14 @@ public class PostService {
         );
     }
 
-    private Page<CommentResponseDto> findCommentsByPostIdByPage(User user, Post post, Integer pageNum) {
-        return commentRepository.findByPost_IdOrderByCreatedAt(
-                post.getId(),
-                pageableFactory.create(pageNum, StaticValue.DEFAULT_COMMENT_PAGE_SIZE)
-            ).map(comment -> toCommentResponseDto(comment, user, post.getBoard()));
-
-    }
-
-    private CommentResponseDto toCommentResponseDto(Comment comment, User user, Board board) {
-        return CommentDtoMapper.INSTANCE.toCommentResponseDto(
-                comment,
-                childCommentRepository.countByParentComment_IdAndIsDeletedIsFalse(comment.getId()),
-                getNumOfCommentLikes(comment),
-                isCommentAlreadyLike(user, comment.getId()),
-                StatusUtil.isCommentOwner(comment, user),
-                comment.getChildCommentList().stream()
-                        .map(childComment -> toChildCommentResponseDto(childComment, user, board))
-                        .collect(Collectors.toList()),
-                StatusUtil.isUpdatable(comment, user),
-                StatusUtil.isDeletable(comment, user, board)
-        );
-    }
-
-    private ChildCommentResponseDto toChildCommentResponseDto(ChildComment childComment, User user, Board board) {
-        return CommentDtoMapper.INSTANCE.toChildCommentResponseDto(
-                childComment,
-                getNumOfChildCommentLikes(childComment),
-                isChildCommentAlreadyLike(user, childComment.getId()),
-                StatusUtil.isChildCommentOwner(childComment, user),
-                StatusUtil.isUpdatable(childComment, user),
-                StatusUtil.isDeletable(childComment, user, board)
-        );
-    }
-
-    private Long getNumOfPostLikes(Post post){
-        return likePostRepository.countByPostId(post.getId());
-    }
-
-    private Long getNumOfPostFavorites(Post post){
-        return favoritePostRepository.countByPostIdAndIsDeletedFalse(post.getId());
-    }
-
-    private Long getNumOfCommentLikes(Comment comment){
-        return likeCommentRepository.countByCommentId(comment.getId());
-    }
-
-    private Long getNumOfChildCommentLikes(ChildComment childComment) {
-        return likeChildCommentRepository.countByChildCommentId(childComment.getId());
-    }
-
     private Boolean isFavorite(String userId, String boardId) {
-        return favoriteBoardRepository.findByUser_Id(userId)
-                .stream()
-                .filter(favoriteBoard -> !favoriteBoard.getBoard().getIsDeleted())
-                .anyMatch(favoriteboard -> favoriteboard.getBoard().getId().equals(boardId));
+        return favoriteBoardCache.isFavorite(userId, boardId);
     }
 
     private Boolean isPostHasComment(String postId){
         return commentRepository.existsByPostIdAndIsDeletedFalse(postId);
     }
 
-    private Boolean isCommentAlreadyLike(User user, String commentId) {
-        return likeCommentRepository.existsByCommentIdAndUserId(commentId, user.getId());
-    }
-
-    private Boolean isChildCommentAlreadyLike(User user, String childCommentId) {
-        return likeChildCommentRepository.existsByChildCommentIdAndUserId(childCommentId, user.getId());
-    }
-
     private Post getPost(String postId) {
         return postRepository.findById(postId).orElseThrow(
                 () -> new BadRequestException(
@@ -1020,15 +1041,6 @@ public class PostService {
         return leader;
     }
 
-    private FavoritePost getFavoritePost(User user, String postId) {
-        return favoritePostRepository.findByPostIdAndUserId(postId, user.getId()).orElseThrow(
-                () -> new BadRequestException(
-                        ErrorCode.ROW_DOES_NOT_EXIST,
-                        MessageUtil.FAVORITE_POST_NOT_FOUND
-                )
-        );
-    }
-
     private FormResponseDto toFormResponseDto(Form form) {
         return FormDtoMapper.INSTANCE.toFormResponseDto(
                 form,
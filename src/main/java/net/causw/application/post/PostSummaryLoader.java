@@ -0,0 +1,88 @@
+package net.causw.application.post;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.repository.post.PostSummaryProjection;
+import net.causw.adapter.persistence.repository.uuidFile.PostAttachImageRepository;
+import net.causw.adapter.persistence.repository.uuidFile.UuidFileRepository;
+import net.causw.adapter.persistence.uuidFile.UuidFile;
+import net.causw.adapter.persistence.uuidFile.joinEntity.PostAttachImage;
+import net.causw.application.dto.post.PostsResponseDto;
+import net.causw.application.dto.util.dtoMapper.PostDtoMapper;
+import net.causw.domain.model.enums.uuidFile.FileExtensionType;
+import net.causw.domain.model.enums.uuidFile.ImageVariant;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록(projection)을 목록 응답으로 변환합니다.
+ * 목록은 본문 없이 projection으로 조회하며, 썸네일은 게시글 수와 관계없이 페이지 전체에 대해
+ * 게시글별 첫 번째 이미지 첨부파일과 그 썸네일 이미지를 각각 한 번의 쿼리로 조회합니다.
+ * 썸네일 이미지가 아직 생성되지 않았으면 원본 이미지 url을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSummaryLoader {
+
+    private final PostAttachImageRepository postAttachImageRepository;
+    private final UuidFileRepository uuidFileRepository;
+
+    public Page<PostsResponseDto> load(Page<PostSummaryProjection> posts) {
+        Map<String, String> thumbnailUrls = loadThumbnailUrls(posts.getContent());
+        return posts.map(post -> toPostsResponseDto(post, thumbnailUrls.get(post.getId())));
+    }
+
+    public List<PostsResponseDto> load(List<PostSummaryProjection> posts) {
+        Map<String, String> thumbnailUrls = loadThumbnailUrls(posts);
+        return posts.stream()
+                .map(post -> toPostsResponseDto(post, thumbnailUrls.get(post.getId())))
+                .toList();
+    }
+
+    // 게시글별 첫 번째 이미지 첨부파일의 썸네일 url (이미지 여부 판단과 게시글별 첫 번째 선택은 DB에서 처리)
+    private Map<String, String> loadThumbnailUrls(List<PostSummaryProjection> posts) {
+        if (posts.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> postIds = posts.stream()
+                .map(PostSummaryProjection::getId)
+                .toList();
+        List<PostAttachImage> firstImages = postAttachImageRepository.findFirstByPost_IdInAndExtensionIn(postIds, FileExtensionType.IMAGE.getExtensionList());
+        if (firstImages.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, String> thumbnailUrlsByOriginalId = uuidFileRepository.findAllByOriginal_IdInAndImageVariant(
+                        firstImages.stream().map(postAttachImage -> postAttachImage.getUuidFile().getId()).toList(),
+                        ImageVariant.THUMBNAIL
+                ).stream()
+                .collect(Collectors.toMap(
+                        thumbnail -> thumbnail.getOriginal().getId(),
+                        UuidFile::getFileUrl,
+                        (first, second) -> first
+                ));
+
+        return firstImages.stream()
+                .collect(Collectors.toMap(
+                        postAttachImage -> postAttachImage.getPost().getId(),
+                        postAttachImage -> thumbnailUrlsByOriginalId.getOrDefault(
+                                postAttachImage.getUuidFile().getId(),
+                                postAttachImage.getUuidFile().getFileUrl()
+                        ),
+                        (first, second) -> first
+                ));
+    }
+
+    private PostsResponseDto toPostsResponseDto(PostSummaryProjection post, String thumbnailUrl) {
+        return PostDtoMapper.INSTANCE.toPostsResponseDto(
+                post,
+                thumbnailUrl,
+                post.getVoteId() != null,
+                post.getFormId() != null
+        );
+    }
+}
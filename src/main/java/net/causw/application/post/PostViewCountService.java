@@ -0,0 +1,81 @@
+package net.causw.application.post;
+
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 조회 시 DB에 바로 쓰지 않고 Redis 버퍼에 조회수를 누적한 뒤, 주기적으로 모아서 batch UPDATE 합니다.
+ * 같은 사용자의 반복 조회는 POST_VIEW_DEDUPE_TIME 동안 한 번만 집계합니다.
+ * 버퍼는 DB 반영이 끝난 뒤에만 삭제하므로, 반영에 실패하거나 반영 중 서버가 종료되면 POST_VIEW_FLUSH_RETRY_TIME 이후 다시 반영합니다.
+ * (반영 직후 삭제 전에 종료된 경우에는 한 주기분이 두 번 반영될 수 있습니다.)
+ */
+@Slf4j
+@Service
+public class PostViewCountService {
+
+    private final RedisUtils redisUtils;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostViewCountService(RedisUtils redisUtils, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.redisUtils = redisUtils;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void increaseViewCount(String postId, String userId) {
+        // 조회수 집계 실패가 게시글 조회를 막지 않도록 예외는 기록만 함
+        try {
+            if (redisUtils.markPostViewed(postId, userId, StaticValue.POST_VIEW_DEDUPE_TIME)) {
+                redisUtils.increasePostViewBuffer(postId, 1L);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to buffer post view count: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "*/10 * * * * ?") // 10초마다 실행
+    public void flushViewCounts() {
+        List<String> flushingKeys = new ArrayList<>();
+        try {
+            flushingKeys.addAll(redisUtils.claimStalePostViewBuffers(StaticValue.POST_VIEW_FLUSH_RETRY_TIME, StaticValue.POST_VIEW_FLUSHING_TTL));
+            String flushingKey = redisUtils.claimPostViewBuffer(StaticValue.POST_VIEW_FLUSHING_TTL);
+            if (flushingKey != null) {
+                flushingKeys.add(flushingKey);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to claim post view buffer: {}", e.getMessage());
+        }
+
+        flushingKeys.forEach(this::flush);
+    }
+
+    private void flush(String flushingKey) {
+        try {
+            Map<String, Long> viewCounts = redisUtils.getPostViewBuffer(flushingKey);
+            if (!viewCounts.isEmpty()) {
+                List<Object[]> batchArgs = viewCounts.entrySet().stream()
+                        .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                        .toList();
+                // 일부만 반영된 채로 다시 반영되지 않도록 한 트랜잭션으로 커밋한 뒤 버퍼 삭제
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate("UPDATE tb_post SET num_view = num_view + ? WHERE id = ?", batchArgs)
+                );
+            }
+            redisUtils.deletePostViewBuffer(flushingKey);
+        } catch (Exception e) {
+            // 버퍼는 남겨 두고 POST_VIEW_FLUSH_RETRY_TIME 이후 다시 반영
+            log.error("Failed to flush post view counts: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package net.causw.application.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.repository.post.PostRepository;
+import net.causw.adapter.persistence.repository.post.RecentPostProjection;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 여러 게시판의 최신 게시글 N개씩을 게시판 수와 관계없이 한 번의 쿼리로 조회합니다.
+ * window function(ROW_NUMBER)을 지원하는 DB에서는 이를 사용하고, 그 외 DB에서는 상관 서브쿼리로 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentPostLoader {
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean windowFunctionSupported = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            windowFunctionSupported = Boolean.TRUE.equals(jdbcTemplate.execute(
+                    (Connection connection) -> supportsWindowFunction(connection.getMetaData())
+            ));
+        } catch (Exception e) {
+            log.error("Failed to check window function support: {}", e.getMessage());
+        }
+
+        if (!windowFunctionSupported) {
+            log.info("Window function is not supported on this database. Fallback to correlated subquery for recent posts.");
+        }
+    }
+
+    // 게시판 id 별 최신 게시글 목록 (요청한 게시판 id 순서 유지, 게시글이 없는 게시판은 빈 목록)
+    public Map<String, List<RecentPostProjection>> findRecentPosts(Collection<String> boardIds, int size) {
+        Map<String, List<RecentPostProjection>> recentPosts = new LinkedHashMap<>();
+        boardIds.forEach(boardId -> recentPosts.put(boardId, new ArrayList<>()));
+
+        if (boardIds.isEmpty() || size <= 0) {
+            return recentPosts;
+        }
+
+        Set<String> distinctBoardIds = new HashSet<>(boardIds);
+        List<RecentPostProjection> posts = windowFunctionSupported
+                ? postRepository.findRecentPostsByBoardIds(distinctBoardIds, size)
+                : postRepository.findRecentPostsByBoardIdsWithoutWindow(distinctBoardIds, size);
+
+        posts.forEach(post -> recentPosts.computeIfAbsent(post.getBoardId(), boardId -> new ArrayList<>()).add(post));
+        return recentPosts;
+    }
+
+    private boolean supportsWindowFunction(DatabaseMetaData metaData) throws SQLException {
+        String databaseProductName = metaData.getDatabaseProductName().toLowerCase();
+        int majorVersion = metaData.getDatabaseMajorVersion();
+        int minorVersion = metaData.getDatabaseMinorVersion();
+
+        if (databaseProductName.contains("mariadb")) {
+            return majorVersion > 10 || (majorVersion == 10 && minorVersion >= 2);
+        }
+        if (databaseProductName.contains("mysql")) {
+            return majorVersion >= 8;
+        }
+        if (databaseProductName.contains("h2")) {
+            return majorVersion >= 2;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,17 @@
+package net.causw.application.reaction;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReactionResult {
+    private final boolean isChanged;    // 이번 요청으로 상태가 바뀌었는지 여부 (중복 요청이면 false)
+    private final boolean isActive;
+    private final long count;
+
+    public static ReactionResult of(boolean isChanged, boolean isActive, long count) {
+        return new ReactionResult(isChanged, isActive, count);
+    }
+}
@@ -0,0 +1,100 @@
+package net.causw.application.reaction;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.domain.aop.annotation.MeasureTime;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 좋아요/즐겨찾기, 댓글/대댓글 좋아요를 존재 여부 조회 없이 한 번의 쓰기로 추가/취소합니다.
+ * 중복 여부는 (대상 id, user_id) unique 제약으로 판단하므로 동시에 같은 요청이 들어와도 한 번만 반영되며,
+ * 반복 요청은 오류 없이 현재 상태와 수를 그대로 반환합니다.
+ * 게시글 수 컬럼은 실제로 상태가 바뀐 경우에만 증감하므로 중복 요청으로 수가 어긋나지 않습니다.
+ */
+@MeasureTime
+@Service
+@RequiredArgsConstructor
+public class ReactionService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 대상 검증 및 후속 처리와 함께 커밋되도록 호출한 서비스의 트랜잭션 안에서만 실행
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ReactionResult react(ReactionType type, String targetId, String userId) {
+        boolean isChanged = (type.isSoftDeleted() && restore(type, targetId, userId)) || insert(type, targetId, userId);
+        return ReactionResult.of(isChanged, true, applyCount(type, targetId, isChanged ? 1 : 0));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ReactionResult cancel(ReactionType type, String targetId, String userId) {
+        int updated = type.isSoftDeleted()
+                ? jdbcTemplate.update(
+                        "UPDATE " + type.getTable() + " SET is_deleted = true, updated_at = ? " +
+                                "WHERE " + type.getTargetColumn() + " = ? AND user_id = ? AND is_deleted = false",
+                        now(), targetId, userId)
+                : jdbcTemplate.update(
+                        "DELETE FROM " + type.getTable() + " WHERE " + type.getTargetColumn() + " = ? AND user_id = ?",
+                        targetId, userId);
+
+        boolean isChanged = updated > 0;
+        return ReactionResult.of(isChanged, false, applyCount(type, targetId, isChanged ? -1 : 0));
+    }
+
+    // 취소되어 있던 즐겨찾기를 되살림 (행 잠금으로 동시 요청 중 하나만 성공)
+    private boolean restore(ReactionType type, String targetId, String userId) {
+        return jdbcTemplate.update(
+                "UPDATE " + type.getTable() + " SET is_deleted = false, updated_at = ? " +
+                        "WHERE " + type.getTargetColumn() + " = ? AND user_id = ? AND is_deleted = true",
+                now(), targetId, userId
+        ) > 0;
+    }
+
+    private boolean insert(ReactionType type, String targetId, String userId) {
+        Timestamp now = now();
+        try {
+            if (type.isSoftDeleted()) {
+                jdbcTemplate.update(
+                        "INSERT INTO " + type.getTable() + " (id, " + type.getTargetColumn() + ", user_id, is_deleted, created_at, updated_at) " +
+                                "VALUES (?, ?, ?, false, ?, ?)",
+                        UUID.randomUUID().toString(), targetId, userId, now, now);
+            } else {
+                jdbcTemplate.update(
+                        "INSERT INTO " + type.getTable() + " (id, " + type.getTargetColumn() + ", user_id, created_at, updated_at) " +
+                                "VALUES (?, ?, ?, ?, ?)",
+                        UUID.randomUUID().toString(), targetId, userId, now, now);
+            }
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 이미 추가되어 있거나 동시에 들어온 요청이 먼저 추가한 경우
+            return false;
+        }
+    }
+
+    private long applyCount(ReactionType type, String targetId, long delta) {
+        Long count;
+        if (type.getPostCounterColumn() != null) {
+            String column = type.getPostCounterColumn();
+            if (delta != 0) {
+                jdbcTemplate.update("UPDATE tb_post SET " + column + " = " + column + " + ? WHERE id = ?", delta, targetId);
+            }
+            count = jdbcTemplate.queryForObject("SELECT " + column + " FROM tb_post WHERE id = ?", Long.class, targetId);
+        } else {
+            count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + type.getTable() + " WHERE " + type.getTargetColumn() + " = ?" +
+                            (type.isSoftDeleted() ? " AND is_deleted = false" : ""),
+                    Long.class, targetId);
+        }
+        return count == null ? 0L : count;
+    }
+
+    private Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,19 @@
+package net.causw.application.reaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 좋아요/즐겨찾기 대상별 테이블 정보 (각 테이블은 (대상 id, user_id) unique 제약을 가짐)
+@Getter
+@AllArgsConstructor
+public enum ReactionType {
+    POST_LIKE("tb_like_post", "post_id", false, "num_like"),
+    POST_FAVORITE("tb_favorite_post", "post_id", true, "num_favorite"),
+    COMMENT_LIKE("tb_like_comment", "comment_id", false, null),
+    CHILD_COMMENT_LIKE("tb_like_child_comment", "child_comment_id", false, null);
+
+    private final String table;
+    private final String targetColumn;
+    private final boolean isSoftDeleted;    // 취소 시 삭제하지 않고 is_deleted로 표시하는지 여부
+    private final String postCounterColumn; // tb_post에 수를 따로 저장하는 경우 해당 컬럼
+}
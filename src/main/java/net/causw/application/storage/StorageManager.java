@@ -4,6 +4,7 @@ import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import net.causw.domain.aop.annotation.MeasureTime;
@@ -15,6 +16,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
@@ -48,6 +50,36 @@ public class StorageManager {
         return fileInfoStringMap;
     }
 
+    protected Map<FileInfo, String> uploadFile(byte[] content, String contentType, String rawFileName, String extension, FilePath filePath, String uuid) {
+
+        String fileKey = this.buildFileKey(uuid, rawFileName, extension, filePath);
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(content.length);
+
+        try (InputStream inputStream = new ByteArrayInputStream(content)) {
+            amazonS3Client.putObject(new PutObjectRequest(bucketName, fileKey, inputStream, objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+        } catch (IOException e) {
+            throw new InternalServerException(ErrorCode.FILE_UPLOAD_FAIL, MessageUtil.FILE_UPLOAD_FAIL + e.getMessage());
+        }
+
+        Map<FileInfo, String> fileInfoStringMap = new HashMap<>();
+        fileInfoStringMap.put(FileInfo.FILE_URL, amazonS3Client.getUrl(bucketName, fileKey).toString().trim());
+        fileInfoStringMap.put(FileInfo.FILE_KEY, fileKey);
+        return fileInfoStringMap;
+    }
+
+    protected byte[] downloadFile(String fileKey) {
+        try (S3Object s3Object = amazonS3Client.getObject(bucketName, fileKey);
+             InputStream inputStream = s3Object.getObjectContent()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FILE_NOT_FOUND + e.getMessage());
+        }
+    }
+
     protected void deleteFile(String fileKey) {
         try {
             amazonS3Client.deleteObject(bucketName, fileKey);
@@ -13,20 +13,21 @@ import net.causw.adapter.persistence.userAcademicRecord.UserAcademicRecordApplic
 import net.causw.adapter.persistence.uuidFile.joinEntity.UserAcademicRecordApplicationAttachImage;
 import net.causw.adapter.persistence.uuidFile.joinEntity.UserAdmissionAttachImage;
 import net.causw.adapter.persistence.uuidFile.joinEntity.UserProfileImage;
-import net.causw.application.dto.util.StatusUtil;
 import net.causw.application.excel.UserExcelService;
+import net.causw.application.pageable.PageTotalMode;
+import net.causw.application.pageable.PageTotalResolver;
 import net.causw.application.pageable.PageableFactory;
+import net.causw.application.post.PostSummaryLoader;
 import net.causw.adapter.persistence.post.Post;
 import net.causw.adapter.persistence.repository.board.BoardRepository;
 import net.causw.adapter.persistence.repository.circle.CircleMemberRepository;
 import net.causw.adapter.persistence.repository.circle.CircleRepository;
-import net.causw.adapter.persistence.repository.comment.ChildCommentRepository;
 import net.causw.adapter.persistence.repository.comment.CommentRepository;
 import net.causw.adapter.persistence.repository.locker.LockerLogRepository;
 import net.causw.adapter.persistence.repository.locker.LockerRepository;
 import net.causw.adapter.persistence.repository.post.FavoritePostRepository;
-import net.causw.adapter.persistence.repository.post.LikePostRepository;
 import net.causw.adapter.persistence.repository.post.PostRepository;
+import net.causw.adapter.persistence.repository.post.PostSummaryProjection;
 import net.causw.adapter.persistence.repository.user.UserAdmissionLogRepository;
 import net.causw.adapter.persistence.repository.user.UserAdmissionRepository;
 import net.causw.adapter.persistence.repository.user.UserRepository;
@@ -40,10 +41,11 @@ import net.causw.application.dto.circle.CircleResponseDto;
 import net.causw.application.dto.user.*;
 import net.causw.application.dto.util.dtoMapper.BoardDtoMapper;
 import net.causw.application.dto.util.dtoMapper.CircleDtoMapper;
-import net.causw.application.dto.util.dtoMapper.PostDtoMapper;
 import net.causw.application.dto.util.dtoMapper.UserDtoMapper;
 import net.causw.application.uuidFile.UuidFileService;
 import net.causw.config.security.JwtTokenProvider;
+import net.causw.config.security.userdetails.UserSnapshot;
+import net.causw.config.security.userdetails.UserSnapshotCache;
 import net.causw.domain.aop.annotation.MeasureTime;
 import net.causw.domain.exceptions.*;
 import net.causw.domain.model.enums.circle.CircleMemberStatus;
@@ -54,7 +56,6 @@ import net.causw.domain.model.enums.user.UserState;
 import net.causw.domain.model.enums.userAcademicRecord.AcademicStatus;
 import net.causw.domain.model.enums.uuidFile.FilePath;
 import net.causw.domain.model.util.MessageUtil;
-import net.causw.domain.model.util.RedisUtils;
 import net.causw.domain.model.util.StaticValue;
 import net.causw.domain.validation.AdmissionYearValidator;
 import net.causw.domain.validation.CircleMemberStatusValidator;
@@ -72,7 +73,6 @@ import net.causw.domain.validation.ValidatorBucket;
 import net.causw.infrastructure.GoogleMailSender;
 import net.causw.infrastructure.PasswordGenerator;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -90,6 +90,9 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    private static final LocalDateTime INITIAL_CURSOR_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String INITIAL_CURSOR_ID = "";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final UuidFileService uuidFileService;
     private final GoogleMailSender googleMailSender;
@@ -103,19 +106,19 @@ public class UserService {
     private final PostRepository postRepository;
     private final PageableFactory pageableFactory;
     private final CommentRepository commentRepository;
-    private final ChildCommentRepository childCommentRepository;
     private final UserAdmissionRepository userAdmissionRepository;
-    private final RedisUtils redisUtils;
     private final LockerRepository lockerRepository;
     private final LockerLogRepository lockerLogRepository;
     private final UserAdmissionLogRepository userAdmissionLogRepository;
     private final BoardRepository boardRepository;
     private final FavoritePostRepository favoritePostRepository;
-    private final LikePostRepository likePostRepository;
     private final UserProfileImageRepository userProfileImageRepository;
     private final UserExcelService userExcelService;
     private final UserAcademicRecordApplicationRepository userAcademicRecordApplicationRepository;
     private final UserAcademicRecordApplicationAttachImageRepository userAcademicRecordApplicationAttachImageRepository;
+    private final PostSummaryLoader postSummaryLoader;
+    private final PageTotalResolver pageTotalResolver;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Transactional
     public void findPassword(
@@ -210,7 +213,7 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public UserPostsResponseDto findPosts(User requestUser, Integer pageNum) {
+    public UserPostsResponseDto findPosts(User requestUser, Integer pageNum, PageTotalMode pageTotalMode) {
         Set<Role> roles = requestUser.getRoles();
 
         ValidatorBucket.of()
@@ -220,21 +223,17 @@ public class UserService {
 
         return UserDtoMapper.INSTANCE.toUserPostsResponseDto(
                 requestUser,
-                this.postRepository.findByUserId(requestUser.getId(), this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE)
-                ).map(post -> PostDtoMapper.INSTANCE.toPostsResponseDto(
-                        post,
-                        getNumOfComment(post),
-                        getNumOfPostLikes(post),
-                        getNumOfPostFavorites(post),
-                        !post.getPostAttachImageList().isEmpty() ? post.getPostAttachImageList().get(0) : null,
-                        StatusUtil.isPostVote(post),
-                        StatusUtil.isPostForm(post)
+                this.postSummaryLoader.load(this.pageTotalResolver.resolve(
+                        this.postRepository.findByUserId(requestUser.getId(), this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE)),
+                        pageTotalMode,
+                        "userPosts:" + requestUser.getId(),
+                        () -> this.postRepository.countByUserId(requestUser.getId())
                 ))
         );
     }
 
     @Transactional(readOnly = true)
-    public UserPostsResponseDto findFavoritePosts(User requestUser, Integer pageNum) {
+    public UserPostsResponseDto findFavoritePosts(User requestUser, Integer pageNum, PageTotalMode pageTotalMode) {
         Set<Role> roles = requestUser.getRoles();
 
         ValidatorBucket.of()
@@ -244,16 +243,12 @@ public class UserService {
 
         return UserDtoMapper.INSTANCE.toUserPostsResponseDto(
                 requestUser,
-                this.favoritePostRepository.findByUserId(requestUser.getId(), this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE))
-                        .map(favoritePost -> PostDtoMapper.INSTANCE.toPostsResponseDto(
-                                favoritePost.getPost(),
-                                getNumOfComment(favoritePost.getPost()),
-                                getNumOfPostLikes(favoritePost.getPost()),
-                                getNumOfPostFavorites(favoritePost.getPost()),
-                                !favoritePost.getPost().getPostAttachImageList().isEmpty() ? favoritePost.getPost().getPostAttachImageList().get(0) : null,
-                                StatusUtil.isPostVote(favoritePost.getPost()),
-                                StatusUtil.isPostForm(favoritePost.getPost())
-                        ))
+                this.postSummaryLoader.load(this.pageTotalResolver.resolve(
+                        this.favoritePostRepository.findByUserId(requestUser.getId(), this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE)),
+                        pageTotalMode,
+                        "favoritePosts:" + requestUser.getId(),
+                        () -> this.favoritePostRepository.countByUser_IdAndIsDeletedFalse(requestUser.getId())
+                ))
         );
     }
 
@@ -266,32 +261,56 @@ public class UserService {
                 .consistOf(UserStateValidator.of(requestUser.getState()))
                 .validate();
 
-        Pageable pageable = this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE / 2 + 5);
+        Pageable pageable = this.pageableFactory.create(pageNum, StaticValue.DEFAULT_POST_PAGE_SIZE);
 
-        Page<Post> postsFromComments = this.commentRepository.findPostsByUserId(requestUser.getId(), pageable);
-        Page<Post> postsFromChildComments = this.childCommentRepository.findPostsByUserId(requestUser.getId(), pageable);
+        // 댓글과 대댓글의 게시글을 DB에서 UNION으로 합쳐 중복 제거, 정렬, 페이징까지 처리
+        Page<PostSummaryProjection> commentedPosts = this.postRepository.findCommentedPostsByUserId(requestUser.getId(), pageable);
 
-        //Comment와 ChildComment의 Post 중복 제거
-        Set<Post> combinedPosts = new HashSet<>();
-        combinedPosts.addAll(postsFromComments.getContent());
-        combinedPosts.addAll(postsFromChildComments.getContent());
+        return UserDtoMapper.INSTANCE.toUserPostsResponseDto(
+                requestUser,
+                this.postSummaryLoader.load(commentedPosts)
+        );
+    }
 
-        //Set에서 Page로 타입 변환 및 정렬
-        List<Post> combinedPostsList = new ArrayList<>(combinedPosts);
-        combinedPostsList.sort((post1, post2) -> post2.getCreatedAt().compareTo(post1.getCreatedAt()));
-        Page<Post> combinedPostsPage = new PageImpl<>(combinedPostsList, pageable, combinedPostsList.size());
+    @Transactional(readOnly = true)
+    public UserPostsCursorResponseDto findCommentedPostsByCursor(
+            User requestUser,
+            LocalDateTime cursorCreatedAt,
+            String cursorId
+    ) {
+        Set<Role> roles = requestUser.getRoles();
 
-        return UserDtoMapper.INSTANCE.toUserPostsResponseDto(
+        ValidatorBucket.of()
+                .consistOf(UserRoleIsNoneValidator.of(roles))
+                .consistOf(UserStateValidator.of(requestUser.getState()))
+                .validate();
+
+        // 커서는 (생성 시간, id) 쌍으로만 유효. 둘 다 없으면 첫 페이지 조회
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    MessageUtil.INVALID_POST_CURSOR
+            );
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
+        List<PostSummaryProjection> posts = this.postRepository.findCommentedPostsByUserIdAfterCursor(
+                requestUser.getId(),
+                cursorCreatedAt == null ? INITIAL_CURSOR_CREATED_AT : cursorCreatedAt,
+                cursorId == null ? INITIAL_CURSOR_ID : cursorId,
+                StaticValue.DEFAULT_POST_PAGE_SIZE + 1
+        );
+
+        boolean hasNext = posts.size() > StaticValue.DEFAULT_POST_PAGE_SIZE;
+        List<PostSummaryProjection> page = hasNext ? posts.subList(0, StaticValue.DEFAULT_POST_PAGE_SIZE) : posts;
+        PostSummaryProjection last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return UserDtoMapper.INSTANCE.toUserPostsCursorResponseDto(
                 requestUser,
-                combinedPostsPage.map(post -> PostDtoMapper.INSTANCE.toPostsResponseDto(
-                        post,
-                        getNumOfComment(post),
-                        getNumOfPostLikes(post),
-                        getNumOfPostFavorites(post),
-                        !post.getPostAttachImageList().isEmpty() ? post.getPostAttachImageList().get(0) : null,
-                        StatusUtil.isPostVote(post),
-                        StatusUtil.isPostForm(post)
-                ))
+                this.postSummaryLoader.load(page),
+                hasNext,
+                last == null ? null : last.getCreatedAt(),
+                last == null ? null : last.getId()
         );
     }
 
@@ -594,13 +613,10 @@ public class UserService {
                 .consistOf(UserStateValidator.of(user.getState()))
                 .validate();
 
-        // refreshToken은 redis에 보관
-        String refreshToken = jwtTokenProvider.createRefreshToken();
-        redisUtils.setRefreshTokenData(refreshToken, user.getId(), StaticValue.JWT_REFRESH_TOKEN_VALID_TIME);
-
+        // refreshToken은 사용자별 세션 목록(redis)에 등록
         return UserDtoMapper.INSTANCE.toUserSignInResponseDto(
                 jwtTokenProvider.createAccessToken(user.getId(), user.getRoles(), user.getState()),
-                jwtTokenProvider.createRefreshToken()
+                jwtTokenProvider.issueRefreshToken(user.getId())
         );
     }
 
@@ -1430,37 +1446,26 @@ public class UserService {
         return UserDtoMapper.INSTANCE.toUserResponseDto(entity, null, null);
     }
 
-    @Transactional
+    // 역할과 상태는 UserSnapshotCache 에서 읽으므로 DB 조회는 캐시가 비어 있을 때 한 번뿐
     public UserSignInResponseDto updateToken(String refreshToken) {
-        // STEP1 : refreshToken으로 맵핑된 유저 찾기
-        User user = this.userRepository.findById(this.getUserIdFromRefreshToken(refreshToken)).orElseThrow(
-                () -> new BadRequestException(ErrorCode.ROW_DOES_NOT_EXIST, MessageUtil.INVALID_REFRESH_TOKEN)
-        );
-
-        this.userRepository.findById(getUserIdFromRefreshToken(refreshToken));
+        // STEP1 : refreshToken의 유저 확인
+        UserSnapshot user = userSnapshotCache.get(jwtTokenProvider.getRefreshTokenUserPk(refreshToken));
 
         ValidatorBucket.of()
                 .consistOf(UserRoleIsNoneValidator.of(user.getRoles()))
                 .consistOf(UserStateValidator.of(user.getState()))
                 .validate();
 
-        // STEP2 : 새로운 accessToken 제공
+        // STEP2 : refreshToken 교체 (이미 교체된 토큰이면 세션 폐기) 후 새로운 accessToken 제공
+        String newRefreshToken = jwtTokenProvider.rotateRefreshToken(refreshToken);
         String newAccessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getRoles(), user.getState());
 
-        return UserDtoMapper.INSTANCE.toUserSignInResponseDto(newAccessToken, refreshToken);
-    }
-
-    private String getUserIdFromRefreshToken(String refreshToken) {
-        return Optional.ofNullable(redisUtils.getRefreshTokenData(refreshToken))
-                .orElseThrow(() -> new BadRequestException(
-                        ErrorCode.ROW_DOES_NOT_EXIST,
-                        MessageUtil.INVALID_REFRESH_TOKEN
-                        ));
+        return UserDtoMapper.INSTANCE.toUserSignInResponseDto(newAccessToken, newRefreshToken);
     }
 
     public UserSignOutResponseDto signOut(UserSignOutRequestDto userSignOutRequestDto){
-        redisUtils.addToBlacklist(userSignOutRequestDto.getAccessToken());
-        redisUtils.deleteRefreshTokenData(userSignOutRequestDto.getRefreshToken());
+        jwtTokenProvider.addToBlacklist(userSignOutRequestDto.getAccessToken());
+        jwtTokenProvider.revokeRefreshToken(userSignOutRequestDto.getRefreshToken());
 
         return UserDtoMapper.INSTANCE.toUserSignOutResponseDto("로그아웃 성공");
     }
@@ -1674,16 +1679,4 @@ public class UserService {
         );
     }
 
-    private Long getNumOfComment(Post post) {
-        return this.postRepository.countAllCommentByPost_Id(post.getId());
-    }
-
-    private Long getNumOfPostLikes(Post post){
-        return likePostRepository.countByPostId(post.getId());
-    }
-
-    private Long getNumOfPostFavorites(Post post){
-        return favoritePostRepository.countByPostIdAndIsDeletedFalse(post.getId());
-    }
-
 }
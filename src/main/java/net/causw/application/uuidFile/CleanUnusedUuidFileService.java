@@ -14,6 +14,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -352,7 +353,9 @@ public class CleanUnusedUuidFileService {
 
     @Transactional
     public void deleteFileNotUsed(StepExecution stepExecution) {
-        List<UuidFile> uuidFileList = uuidFileRepository.findAllByIsUsed(false);
+        List<UuidFile> uuidFileList = uuidFileRepository.findAllNotUsed();
+        // 파생 파일이 원본 파일을 참조하므로 파생 파일부터 삭제
+        uuidFileList.sort(Comparator.comparing(uuidFile -> uuidFile.getOriginal() == null));
 
         int deletedFileCount = uuidFileList.size();
         log.info("Delete not used file: {}", uuidFileList.size());
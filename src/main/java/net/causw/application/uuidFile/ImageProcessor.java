@@ -0,0 +1,220 @@
+package net.causw.application.uuidFile;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.causw.domain.model.util.StaticValue;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 파생 이미지 생성에 필요한 디코딩, EXIF 방향 보정, 축소, 인코딩을 처리합니다.
+ * 다시 인코딩한 이미지에는 원본의 EXIF 등 메타데이터가 포함되지 않습니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ImageProcessor {
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    // 긴 변이 minSize 이상으로 남는 범위에서 픽셀을 건너뛰며(subsampling) 디코딩하여 원본 크기의 버퍼를 만들지 않음
+    // 지원하지 않는 형식이거나 최대 픽셀 수를 넘으면 null
+    static BufferedImage decode(byte[] content, int minSize) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+                // 픽셀 데이터를 읽기 전에 크기만 확인
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > StaticValue.IMAGE_VARIANT_MAX_PIXELS) {
+                    return null;
+                }
+
+                int subsampling = Math.max(1, Math.max(width, height) / minSize);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // EXIF Orientation(1~8) 값에 따라 회전/반전하여 보이는 방향대로 픽셀을 재배치
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+
+        boolean isRotated = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(
+                isRotated ? height : width,
+                isRotated ? width : height,
+                imageType(image)
+        );
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    // 긴 변이 maxSize 가 되도록 비율을 유지하여 축소 (큰 배율은 절반씩 나누어 축소하여 화질 저하 방지)
+    static BufferedImage resize(BufferedImage image, int maxSize) {
+        double scale = (double) maxSize / Math.max(image.getWidth(), image.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage resized = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage step = new BufferedImage(width, height, imageType(image));
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(resized, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            resized = step;
+        } while (width != targetWidth || height != targetHeight);
+
+        return resized;
+    }
+
+    static boolean hasAlpha(BufferedImage image) {
+        return image.getColorModel().hasAlpha();
+    }
+
+    // 투명도가 있으면 PNG, 없으면 JPEG
+    static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (hasAlpha(image)) {
+            ImageIO.write(image, "png", outputStream);
+            return outputStream.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(StaticValue.IMAGE_VARIANT_JPEG_QUALITY);
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    // JPEG 의 EXIF(APP1) 세그먼트에서 Orientation 값을 읽음. 없거나 JPEG 가 아니면 1(보정 불필요)
+    static int readOrientation(byte[] content) {
+        if (content.length < 4 || (content[0] & 0xFF) != 0xFF || (content[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+
+        int offset = 2;
+        while (offset + 4 <= content.length && (content[offset] & 0xFF) == 0xFF) {
+            int marker = content[offset + 1] & 0xFF;
+            // SOS 이후는 압축된 이미지 데이터
+            if (marker == 0xDA || marker == 0xD9) {
+                return 1;
+            }
+
+            int length = readUnsignedShort(content, offset + 2, false);
+            int segmentEnd = Math.min(content.length, offset + 2 + length);
+            if (marker == 0xE1 && isExifHeader(content, offset + 4, segmentEnd)) {
+                return readTiffOrientation(content, offset + 10, segmentEnd);
+            }
+            offset += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int imageType(BufferedImage image) {
+        return hasAlpha(image) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+    }
+
+    private static boolean isExifHeader(byte[] content, int offset, int end) {
+        return offset + 6 <= end
+                && content[offset] == 'E' && content[offset + 1] == 'x' && content[offset + 2] == 'i' && content[offset + 3] == 'f'
+                && content[offset + 4] == 0 && content[offset + 5] == 0;
+    }
+
+    // TIFF 헤더의 byte order 에 따라 IFD0 의 Orientation 항목을 찾음
+    private static int readTiffOrientation(byte[] content, int tiffStart, int end) {
+        if (tiffStart + 8 > end) {
+            return 1;
+        }
+        boolean isLittleEndian = content[tiffStart] == 'I' && content[tiffStart + 1] == 'I';
+
+        long ifdOffset = readUnsignedInt(content, tiffStart + 4, isLittleEndian);
+        if (ifdOffset < 8 || tiffStart + ifdOffset + 2 > end) {
+            return 1;
+        }
+        int ifdStart = (int) (tiffStart + ifdOffset);
+
+        int entryCount = readUnsignedShort(content, ifdStart, isLittleEndian);
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifdStart + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readUnsignedShort(content, entry, isLittleEndian) == EXIF_ORIENTATION_TAG) {
+                int orientation = readUnsignedShort(content, entry + 8, isLittleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readUnsignedShort(byte[] content, int offset, boolean isLittleEndian) {
+        int first = content[offset] & 0xFF;
+        int second = content[offset + 1] & 0xFF;
+        return isLittleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static long readUnsignedInt(byte[] content, int offset, boolean isLittleEndian) {
+        long high = readUnsignedShort(content, isLittleEndian ? offset + 2 : offset, isLittleEndian);
+        long low = readUnsignedShort(content, isLittleEndian ? offset : offset + 2, isLittleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,17 @@
+package net.causw.application.uuidFile;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.causw.adapter.persistence.uuidFile.UuidFile;
+
+// 이미지 파일 업로드 시 발행되는 이벤트 (썸네일 등 파생 이미지 생성 용도)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImageUploadedEvent {
+    private final String uuidFileId;
+
+    public static ImageUploadedEvent of(UuidFile uuidFile) {
+        return new ImageUploadedEvent(uuidFile.getId());
+    }
+}
@@ -0,0 +1,128 @@
+package net.causw.application.uuidFile;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.repository.uuidFile.UuidFileRepository;
+import net.causw.adapter.persistence.uuidFile.UuidFile;
+import net.causw.application.storage.StorageManager;
+import net.causw.domain.model.enums.uuidFile.ImageVariant;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드한 이미지로부터 썸네일, 중간 크기 이미지를 생성하여 원본을 참조하는 UuidFile 로 저장합니다.
+ * 이미지 처리는 업로드 트랜잭션 커밋 후 전용 스레드 풀에서 S3의 원본을 내려받아 수행하므로 요청 스레드에서는 실행되지 않으며,
+ * 작업 큐가 가득 차면 생성하지 않습니다. (파생 이미지가 없으면 원본 이미지를 사용)
+ */
+@Slf4j
+@Service
+public class ImageVariantService extends StorageManager {
+
+    // 가장 큰 파생 이미지를 만들 수 있는 크기까지만 디코딩
+    private static final int DECODE_MIN_SIZE = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::getMaxSize)
+            .max()
+            .orElse(0);
+
+    private final UuidFileRepository uuidFileRepository;
+    private final ThreadPoolExecutor worker;
+
+    public ImageVariantService(AmazonS3Client amazonS3Client, UuidFileRepository uuidFileRepository) {
+        super(amazonS3Client);
+        this.uuidFileRepository = uuidFileRepository;
+        this.worker = new ThreadPoolExecutor(
+                StaticValue.IMAGE_VARIANT_WORKER_THREADS, StaticValue.IMAGE_VARIANT_WORKER_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(StaticValue.IMAGE_VARIANT_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("image-variant-")
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageUploaded(ImageUploadedEvent event) {
+        try {
+            worker.execute(() -> createVariants(event.getUuidFileId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Image variant queue is full, skipping {}", event.getUuidFileId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void createVariants(String uuidFileId) {
+        try {
+            // 업로드 직후 삭제된 경우
+            UuidFile original = uuidFileRepository.findById(uuidFileId).orElse(null);
+            if (original == null) {
+                return;
+            }
+
+            byte[] content = downloadFile(original.getFileKey());
+            BufferedImage image = ImageProcessor.decode(content, DECODE_MIN_SIZE);
+            if (image == null) {
+                return;
+            }
+            image = ImageProcessor.orient(image, ImageProcessor.readOrientation(content));
+
+            for (ImageVariant imageVariant : ImageVariant.values()) {
+                // 원본이 더 작으면 원본을 그대로 사용
+                if (Math.max(image.getWidth(), image.getHeight()) <= imageVariant.getMaxSize()) {
+                    continue;
+                }
+                save(original, imageVariant, ImageProcessor.resize(image, imageVariant.getMaxSize()));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to create image variants of {}: {}", uuidFileId, e.getMessage());
+        }
+    }
+
+    private void save(UuidFile original, ImageVariant imageVariant, BufferedImage image) throws Exception {
+        boolean isPng = ImageProcessor.hasAlpha(image);
+        String extension = isPng ? "png" : "jpg";
+        String uuid = UUID.randomUUID().toString();
+        String rawFileName = original.getRawFileName() + "_" + imageVariant.name().toLowerCase();
+
+        Map<FileInfo, String> fileInfoStringMap = uploadFile(
+                ImageProcessor.encode(image),
+                isPng ? "image/png" : "image/jpeg",
+                rawFileName,
+                extension,
+                original.getFilePath(),
+                uuid
+        );
+
+        try {
+            // 처리하는 동안 미사용 파일 정리 작업이 원본의 사용 여부를 바꿨을 수 있으므로 저장 직전의 값을 따름
+            // (파생 파일이 사용 중으로 남으면 원본 삭제가 외래 키에 막힘)
+            UuidFile current = uuidFileRepository.findById(original.getId()).orElseThrow();
+            uuidFileRepository.save(UuidFile.of(
+                    current,
+                    imageVariant,
+                    uuid,
+                    fileInfoStringMap.get(FileInfo.FILE_KEY),
+                    fileInfoStringMap.get(FileInfo.FILE_URL),
+                    rawFileName,
+                    extension
+            ));
+        } catch (Exception e) {
+            // 처리 중 원본이 삭제된 경우 업로드한 파일도 삭제
+            deleteFile(fileInfoStringMap.get(FileInfo.FILE_KEY));
+            throw e;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.model.enums.uuidFile.FileExtensionType;
 import net.causw.domain.model.enums.uuidFile.FilePath;
 import net.causw.domain.model.util.MessageUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -27,10 +28,12 @@ import java.util.UUID;
 public class UuidFileService extends StorageManager {
 
     private final UuidFileRepository uuidFileRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public UuidFileService(AmazonS3Client amazonS3Client, UuidFileRepository uuidFileRepository) {
+    public UuidFileService(AmazonS3Client amazonS3Client, UuidFileRepository uuidFileRepository, ApplicationEventPublisher applicationEventPublisher) {
         super(amazonS3Client);
         this.uuidFileRepository = uuidFileRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     public UuidFile findUuidFileById(@NotBlank String id) {
@@ -66,7 +69,14 @@ public class UuidFileService extends StorageManager {
                 filePath
         );
 
-        return uuidFileRepository.save(uuidFile);
+        uuidFileRepository.save(uuidFile);
+
+        // 썸네일 등 파생 이미지는 커밋 후 별도 스레드에서 생성
+        if (FileExtensionType.IMAGE.getExtensionList().contains(extension.toLowerCase())) {
+            applicationEventPublisher.publishEvent(ImageUploadedEvent.of(uuidFile));
+        }
+
+        return uuidFile;
     }
 
     @Transactional
@@ -100,6 +110,12 @@ public class UuidFileService extends StorageManager {
             throw new InternalServerException(ErrorCode.INTERNAL_SERVER, MessageUtil.FILE_NOT_FOUND);
         }
 
+        // 원본으로부터 생성한 파생 이미지도 함께 삭제
+        for (UuidFile derivedUuidFile : uuidFileRepository.findAllByOriginal_Id(uuidFile.getId())) {
+            super.deleteFile(derivedUuidFile.getFileKey());
+            uuidFileRepository.delete(derivedUuidFile);
+        }
+
         super.deleteFile(uuidFile.getFileKey());
         uuidFileRepository.delete(uuidFile);
     }
@@ -0,0 +1,191 @@
+package net.causw.config.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// RateLimitRoute 에 해당하는 요청을 IP, 계정(요청 body 필드)별로 제한하고 초과 시 429와 Retry-After를 응답
+// 계정별 제한 API의 body가 RATE_LIMIT_MAX_BODY_SIZE 를 넘으면 계정 필드를 읽지 않고 413으로 거절
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // 로드밸런서 등 X-Forwarded-For 를 덧붙이는 내부 프록시의 주소 범위
+    private static final List<IpAddressMatcher> TRUSTED_PROXIES = List.of(
+            new IpAddressMatcher("127.0.0.0/8"),
+            new IpAddressMatcher("10.0.0.0/8"),
+            new IpAddressMatcher("172.16.0.0/12"),
+            new IpAddressMatcher("192.168.0.0/16"),
+            new IpAddressMatcher("::1/128"),
+            new IpAddressMatcher("fc00::/7")
+    );
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        Optional<RateLimitRoute> route = RateLimitRoute.match(request);
+        if (route.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest target = request;
+        String account = null;
+        if (route.get().getAccountField() != null) {
+            // 계정별 제한 대상 API의 요청은 작은 고정 형식이므로, 계정 필드를 읽지 않고 넘기도록 body를 키우는 요청은 거절
+            if (request.getContentLengthLong() > StaticValue.RATE_LIMIT_MAX_BODY_SIZE) {
+                setResponse(response, HttpStatus.PAYLOAD_TOO_LARGE, ErrorCode.INVALID_PARAMETER, MessageUtil.REQUEST_BODY_TOO_LARGE);
+                return;
+            }
+            // 계정 key를 읽은 뒤에도 controller가 body를 읽을 수 있도록 body를 보관
+            CachedBodyRequest cachedBodyRequest = new CachedBodyRequest(request);
+            if (cachedBodyRequest.isTooLarge()) {
+                setResponse(response, HttpStatus.PAYLOAD_TOO_LARGE, ErrorCode.INVALID_PARAMETER, MessageUtil.REQUEST_BODY_TOO_LARGE);
+                return;
+            }
+            account = readAccount(cachedBodyRequest.body, route.get().getAccountField());
+            target = cachedBodyRequest;
+        }
+
+        long retryAfter = rateLimiter.tryAcquire(route.get(), resolveClientIp(request), account);
+        if (retryAfter > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfter + 999) / 1000));
+            setResponse(response, HttpStatus.TOO_MANY_REQUESTS, ErrorCode.TOO_MANY_REQUESTS, MessageUtil.TOO_MANY_REQUESTS);
+            return;
+        }
+        chain.doFilter(target, response);
+    }
+
+    // 내부 프록시를 거친 요청이면 X-Forwarded-For 를 오른쪽부터 확인하여 처음 만나는 외부 주소를 사용
+    // (왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로 신뢰하는 프록시가 덧붙인 오른쪽 값만 사용)
+    private String resolveClientIp(HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || !isTrustedProxy(clientIp)) {
+            return clientIp;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0 && isTrustedProxy(clientIp); i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            clientIp = hop;
+        }
+        return clientIp;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        try {
+            return TRUSTED_PROXIES.stream().anyMatch(matcher -> matcher.matches(address));
+        } catch (IllegalArgumentException e) {
+            // IP 주소 형식이 아닌 값
+            return false;
+        }
+    }
+
+    private String readAccount(byte[] body, String field) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode value = objectMapper.readTree(body).get(field);
+            return value != null && value.isTextual() ? value.asText() : null;
+        } catch (IOException e) {
+            // 형식이 잘못된 요청은 IP별 제한만 적용하고, 오류 응답은 controller에서 처리
+            return null;
+        }
+    }
+
+    private void setResponse(HttpServletResponse response, HttpStatus status, ErrorCode errorCode, String message) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(status.value());
+        response.getWriter().println(
+                "{" +
+                        "\"errorCode\" : \"" + errorCode.getCode() + "\"," +
+                        "\"message\" : \"" + message + "\"," +
+                        "\"timeStamp\" : \"" + LocalDateTime.now() + "\"" +
+                        "}"
+        );
+    }
+
+    // body 전체를 메모리에 올리지 않도록 최대 크기 + 1 byte까지만 읽음 (Content-Length 가 없는 chunked 요청 대비)
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readNBytes(StaticValue.RATE_LIMIT_MAX_BODY_SIZE + 1);
+        }
+
+        private boolean isTooLarge() {
+            return body.length > StaticValue.RATE_LIMIT_MAX_BODY_SIZE;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // body 를 이미 모두 읽어 두었으므로 바로 모두 읽을 수 있음을 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            return new BufferedReader(new InputStreamReader(getInputStream(), getCharacterEncoding() == null ? "UTF-8" : getCharacterEncoding()));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package net.causw.config.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// 요청 수를 제한하는 인증 없이 호출 가능한 API (제한 값은 분당 요청 수, 설정으로 변경 가능)
+@Getter
+@AllArgsConstructor
+public enum RateLimitRoute {
+    SIGN_IN("sign-in", "POST", "/api/v1/users/sign-in", "email", 60, 10),
+    FIND_PASSWORD("find-password", "PUT", "/api/v1/users/password/find", "email", 10, 3),
+    FIND_USER_ID("find-user-id", "POST", "/api/v1/users/user-id/find", "studentId", 10, 5),
+    DUPLICATE_CHECK("duplicate-check", "GET", "/api/v1/users/*/is-duplicated*", null, 120, 0);
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String name;
+    private final String method;
+    private final String pathPattern;
+    private final String accountField;  // 계정별로 제한할 요청 body 필드 (없으면 IP별로만 제한)
+    private final int defaultIpLimitPerMinute;
+    private final int defaultAccountLimitPerMinute;
+
+    public static Optional<RateLimitRoute> match(HttpServletRequest request) {
+        return Arrays.stream(values())
+                .filter(route -> route.method.equalsIgnoreCase(request.getMethod()))
+                .filter(route -> PATH_MATCHER.match(route.pathPattern, request.getRequestURI()))
+                .findFirst();
+    }
+}
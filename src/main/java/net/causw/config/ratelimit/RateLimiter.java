@@ -0,0 +1,193 @@
+package net.causw.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 없이 호출 가능한 API의 요청 수를 IP별, 계정별 token bucket으로 제한합니다.
+ * bucket은 Redis Lua 스크립트로 한 번에 확인/소비하므로 여러 서버에서도 제한이 합산되며,
+ * 거절된 key는 다시 시도할 수 있을 때까지 서버 메모리에서 바로 거절하여 반복 요청이 Redis까지 가지 않도록 합니다.
+ * Redis를 사용할 수 없으면 서버별 메모리 bucket으로 제한합니다.
+ *
+ * 제한 값은 rate-limit.{route}.ip-per-minute, rate-limit.{route}.account-per-minute 로 변경할 수 있으며 0이면 제한하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final RedisUtils redisUtils;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<RateLimitRoute, Limit> limits = new EnumMap<>(RateLimitRoute.class);
+
+    // 거절된 key -> 다시 시도할 수 있는 시각(ms)
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    // Redis 장애 시 사용하는 서버별 bucket
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+
+    private final Counter redisFailures;
+
+    public RateLimiter(RedisUtils redisUtils, MeterRegistry meterRegistry, Environment environment) {
+        this.redisUtils = redisUtils;
+        this.meterRegistry = meterRegistry;
+        this.enabled = environment.getProperty("rate-limit.enabled", Boolean.class, true);
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            String prefix = "rate-limit." + route.getName();
+            limits.put(route, new Limit(
+                    environment.getProperty(prefix + ".ip-per-minute", Integer.class, route.getDefaultIpLimitPerMinute()),
+                    environment.getProperty(prefix + ".account-per-minute", Integer.class, route.getDefaultAccountLimitPerMinute())
+            ));
+        }
+        this.redisFailures = Counter.builder("rate_limit.redis.failures")
+                .description("Redis를 사용할 수 없어 서버 메모리로 요청 수를 제한한 횟수")
+                .register(meterRegistry);
+    }
+
+    // 허용되면 0, 거절되면 다시 시도할 수 있을 때까지의 ms
+    public long tryAcquire(RateLimitRoute route, String ip, String account) {
+        if (!enabled) {
+            return 0L;
+        }
+
+        Limit limit = limits.get(route);
+        List<Bucket> buckets = new ArrayList<>(2);
+        if (limit.ipPerMinute() > 0 && ip != null) {
+            buckets.add(new Bucket(route.getName() + ":ip:" + ip, "ip", limit.ipPerMinute()));
+        }
+        if (limit.accountPerMinute() > 0 && account != null && !account.isBlank()) {
+            buckets.add(new Bucket(route.getName() + ":account:" + account.trim().toLowerCase(), "account", limit.accountPerMinute()));
+        }
+        if (buckets.isEmpty()) {
+            return 0L;
+        }
+
+        long now = System.currentTimeMillis();
+        for (Bucket bucket : buckets) {
+            Long until = blockedUntil.get(bucket.key());
+            if (until != null && until > now) {
+                reject(route, bucket, "local");
+                return until - now;
+            }
+        }
+
+        try {
+            long[] result = redisUtils.consumeRateLimitTokens(
+                    buckets.stream().map(Bucket::key).toList(),
+                    buckets.stream().map(bucket -> (long) bucket.perMinute()).toList(),
+                    buckets.stream().map(Bucket::refillMillis).toList()
+            );
+            if (result[0] > 0) {
+                Bucket rejected = buckets.get((int) result[1]);
+                block(rejected.key(), now + result[0]);
+                reject(route, rejected, "redis");
+            }
+            return result[0];
+        } catch (Exception e) {
+            redisFailures.increment();
+            log.warn("Failed to check rate limit on redis: {}", e.getMessage());
+            return tryAcquireLocal(route, buckets, now);
+        }
+    }
+
+    private long tryAcquireLocal(RateLimitRoute route, List<Bucket> buckets, long now) {
+        if (localBuckets.size() >= StaticValue.RATE_LIMIT_LOCAL_MAX_KEYS) {
+            localBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+
+        List<LocalBucket> targets = buckets.stream()
+                .map(bucket -> localBuckets.computeIfAbsent(bucket.key(), key -> new LocalBucket(bucket.perMinute(), bucket.refillMillis(), now)))
+                .toList();
+        // 모든 bucket에 토큰이 있을 때만 소비 (bucket 순서가 항상 ip -> account 이므로 교착 없음)
+        synchronized (targets.get(0)) {
+            if (targets.size() == 1) {
+                return consumeLocal(route, buckets, targets, now);
+            }
+            synchronized (targets.get(1)) {
+                return consumeLocal(route, buckets, targets, now);
+            }
+        }
+    }
+
+    private long consumeLocal(RateLimitRoute route, List<Bucket> buckets, List<LocalBucket> targets, long now) {
+        for (int i = 0; i < targets.size(); i++) {
+            long retryAfter = targets.get(i).retryAfter(now);
+            if (retryAfter > 0) {
+                reject(route, buckets.get(i), "fallback");
+                return retryAfter;
+            }
+        }
+        targets.forEach(LocalBucket::consume);
+        return 0L;
+    }
+
+    private void block(String key, long until) {
+        if (blockedUntil.size() < StaticValue.RATE_LIMIT_LOCAL_MAX_KEYS) {
+            blockedUntil.put(key, until);
+        }
+    }
+
+    private void reject(RateLimitRoute route, Bucket bucket, String source) {
+        Counter.builder("rate_limit.rejected")
+                .description("요청 수 제한으로 거절된 요청 수")
+                .tag("route", route.getName())
+                .tag("key", bucket.type())
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Scheduled(cron = "0 * * * * ?") // 1분마다 실행, 만료된 차단 정보와 가득 찬 대체 bucket 정리
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        blockedUntil.values().removeIf(until -> until <= now);
+        localBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private record Limit(int ipPerMinute, int accountPerMinute) {
+    }
+
+    private record Bucket(String key, String type, int perMinute) {
+        private long refillMillis() {
+            return Math.max(1L, 60_000L / perMinute);
+        }
+    }
+
+    private static class LocalBucket {
+        private final int capacity;
+        private final long refillMillis;
+        private double tokens;
+        private long updatedAt;
+
+        private LocalBucket(int capacity, long refillMillis, long now) {
+            this.capacity = capacity;
+            this.refillMillis = refillMillis;
+            this.tokens = capacity;
+            this.updatedAt = now;
+        }
+
+        // 호출하는 쪽에서 동기화
+        private long retryAfter(long now) {
+            tokens = Math.min(capacity, tokens + (double) Math.max(0, now - updatedAt) / refillMillis);
+            updatedAt = now;
+            return tokens >= 1 ? 0L : (long) Math.ceil((1 - tokens) * refillMillis);
+        }
+
+        private void consume() {
+            tokens -= 1;
+        }
+
+        private synchronized boolean isFull(long now) {
+            return tokens + (double) Math.max(0, now - updatedAt) / refillMillis >= capacity;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package net.causw.config.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+
+/**
+ * 게시글 제목/내용 검색용 MySQL FULLTEXT 인덱스(ngram parser)가 있는지 확인합니다.
+ * 인덱스 생성은 테이블을 다시 만들고 쓰기를 막으므로 애플리케이션에서 하지 않고 scripts/post_fulltext_index.sql 로 직접 생성합니다.
+ * 인덱스가 없거나 MySQL이 아닌 환경(H2 등)에서는 기존 LIKE 검색을 사용하며, 인덱스가 생기면 재시작 없이 FULLTEXT 검색으로 전환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFullTextIndex {
+
+    private static final String INDEX_NAME = "post_title_content_fulltext_index";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+        if (!available) {
+            log.info("FULLTEXT index {} for tb_post is not available. Fallback to LIKE search.", INDEX_NAME);
+        }
+    }
+
+    @Scheduled(cron = "0 */10 * * * ?") // 10분마다 실행, 인덱스가 생성되었는지 확인
+    public void refresh() {
+        if (available) {
+            return;
+        }
+        try {
+            if (!isMySql()) {
+                return;
+            }
+
+            Integer indexCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'tb_post' AND index_name = ?",
+                    Integer.class,
+                    INDEX_NAME
+            );
+
+            if (indexCount != null && indexCount > 0) {
+                available = true;
+                log.info("FULLTEXT index {} for tb_post is available", INDEX_NAME);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check FULLTEXT index for tb_post: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    private boolean isMySql() {
+        String databaseProductName = jdbcTemplate.execute(
+                (Connection connection) -> connection.getMetaData().getDatabaseProductName()
+        );
+        return databaseProductName != null && databaseProductName.toLowerCase().contains("mysql");
+    }
+}
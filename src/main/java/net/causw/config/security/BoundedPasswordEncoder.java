@@ -0,0 +1,142 @@
+package net.causw.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.ServiceUnavailableException;
+import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt encode/matches)를 전용 스레드 풀에서 실행하여, 로그인/회원가입이 몰려도 해시 계산이 사용하는 CPU를 제한합니다.
+ * 실행 중인 BCrypt 계산은 중단할 수 없으므로, 큐에 쌓인 작업 수와 최근 해시 시간으로 예상한 완료 시간이 제한 시간을 넘으면
+ * 큐에 넣기 전에 503(Retry-After)으로 응답합니다. 그래도 제한 시간을 넘기면 아직 시작하지 않은 작업만 취소하고 503으로 응답하므로,
+ * 요청 스레드가 해시 대기로 모두 묶이지 않고 다른 조회 API는 계속 처리됩니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor hasher;
+    private final int threads;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    // 최근 해시 1회 계산 시간의 이동 평균 (여러 해시 스레드가 동시에 갱신)
+    private final AtomicLong averageHashNanos = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(StaticValue.PASSWORD_HASH_ESTIMATED_TIME));
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.threads = threads;
+        this.hasher = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(StaticValue.PASSWORD_HASH_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("password-hash-")
+        );
+
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hash.wait")
+                .description("비밀번호 해시 작업이 큐에서 대기한 시간")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", hasher, executor -> executor.getQueue().size())
+                .description("대기 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("큐가 가득 찼거나 제한 시간 안에 끝나지 않을 것으로 예상되어 거절한 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hasher.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        if (estimateCompletionNanos() > TimeUnit.MILLISECONDS.toNanos(StaticValue.PASSWORD_HASH_TIMEOUT)) {
+            throw busy();
+        }
+
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = hasher.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return timer.record(task);
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    averageHashNanos.accumulateAndGet(elapsed, (average, sample) -> (average * 7 + sample) / 8);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+
+        try {
+            return future.get(StaticValue.PASSWORD_HASH_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않았으면 실행되지 않도록 취소 (이미 시작한 해시는 끝까지 실행됨)
+            future.cancel(false);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 앞에 있는 작업이 스레드 수만큼씩 처리된 뒤 이 작업이 끝나기까지의 예상 시간
+    // 큐 길이와 실행 중인 작업 수를 따로 읽고 동시에 제출하는 요청끼리 조율하지 않으므로 근사값이며,
+    // 동시에 확인한 요청이 함께 통과할 수 있으나 큐 크기가 제한되어 있어 초과분은 큐가 가득 찰 때 거절됨
+    private long estimateCompletionNanos() {
+        long ahead = hasher.getQueue().size() + hasher.getActiveCount();
+        return (ahead / threads + 1) * averageHashNanos.get();
+    }
+
+    private ServiceUnavailableException busy() {
+        rejected.increment();
+        return new ServiceUnavailableException(
+                ErrorCode.SERVICE_UNAVAILABLE,
+                MessageUtil.PASSWORD_HASH_BUSY,
+                StaticValue.PASSWORD_HASH_RETRY_AFTER
+        );
+    }
+}
@@ -2,7 +2,10 @@ package net.causw.config.security;
 
 import io.jsonwebtoken.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.config.security.userdetails.CustomUserDetails;
 import net.causw.config.security.userdetails.CustomUserDetailsService;
+import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.UnauthorizedException;
 import net.causw.domain.model.enums.user.Role;
@@ -13,7 +16,6 @@ import net.causw.domain.model.enums.user.UserState;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
@@ -22,15 +24,25 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class JwtTokenProvider {
 
+    private static final String SESSION_ID_CLAIM = "sid";
+
+    // 같은 key로 서명하므로 REFRESH TOKEN을 ACCESS TOKEN으로(또는 그 반대로) 사용할 수 없도록 토큰 종류를 표시
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     @Value("${spring.jwt.secret}")
     private String secretKey;
 
     private final CustomUserDetailsService userDetailsService;
 
+    private final TokenBlacklist tokenBlacklist;
+
     private final RedisUtils redisUtils;
 
     @PostConstruct
@@ -43,26 +55,100 @@ public class JwtTokenProvider {
         Claims claims = Jwts.claims().setSubject(userPk);
         claims.put("roles", roles.stream().map(Role::getValue).collect(Collectors.toSet()));
         claims.put("state", userState.getValue());
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())    // 블랙리스트 key로 토큰 전체 대신 사용
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + StaticValue.JWT_ACCESS_TOKEN_VALID_TIME))
                 .signWith(SignatureAlgorithm.HS256, this.secretKey)
                 .compact();
     }
 
-    public String createRefreshToken() {
-        Date now = new Date();
+    // 로그인할 때마다 새 세션을 만들어 사용자별 세션 목록(Redis hash)에 등록합니다.
+    public String issueRefreshToken(String userPk) {
+        String sessionId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        long expiresAt = redisUtils.addRefreshTokenSession(userPk, sessionId, tokenId, StaticValue.JWT_REFRESH_TOKEN_VALID_TIME);
+        return createRefreshToken(userPk, sessionId, tokenId, expiresAt);
+    }
+
+    // 세션의 현재 REFRESH TOKEN만 새 토큰으로 교체합니다.
+    // 동시에 보낸 재발급 요청처럼 직전 토큰이 유예 시간 안에 다시 사용되면 교체하지 않고 현재 토큰을 다시 발급합니다.
+    // 그 밖에 이미 교체된 토큰이 다시 사용되면 탈취된 것으로 보고 해당 세션을 폐기하므로, 정상 사용자와 탈취자 모두 다시 로그인해야 합니다.
+    public String rotateRefreshToken(String refreshToken) {
+        Claims claims = parseRefreshClaims(refreshToken);
+        String userPk = claims.getSubject();
+        String sessionId = claims.get(SESSION_ID_CLAIM, String.class);
+        String newTokenId = UUID.randomUUID().toString();
+
+        List<String> result = redisUtils.rotateRefreshTokenSession(
+                userPk, sessionId, claims.getId(), newTokenId,
+                StaticValue.JWT_REFRESH_TOKEN_VALID_TIME, StaticValue.JWT_REFRESH_TOKEN_REUSE_GRACE_TIME
+        );
+        long status = Long.parseLong(result.get(0));
+        if (status < 0) {
+            log.warn("Refresh token reuse detected, session revoked: user {}, session {}", userPk, sessionId);
+        }
+        if (status <= 0) {
+            throw new BadRequestException(ErrorCode.ROW_DOES_NOT_EXIST, MessageUtil.INVALID_REFRESH_TOKEN);
+        }
+        return createRefreshToken(userPk, sessionId, result.get(1), Long.parseLong(result.get(2)));
+    }
+
+    public String getRefreshTokenUserPk(String refreshToken) {
+        return parseRefreshClaims(refreshToken).getSubject();
+    }
+
+    // 로그아웃한 세션만 폐기 (유효하지 않은 토큰은 폐기할 세션이 없으므로 무시)
+    public void revokeRefreshToken(String refreshToken) {
+        try {
+            Claims claims = parseRefreshClaims(refreshToken);
+            redisUtils.deleteRefreshTokenSession(claims.getSubject(), claims.get(SESSION_ID_CLAIM, String.class));
+        } catch (BadRequestException e) {
+            // 만료되었거나 서명이 올바르지 않은 토큰
+        }
+    }
+
+    // 사용자의 모든 세션을 폐기 (Redis key 하나만 삭제)
+    public void revokeAllRefreshTokens(String userPk) {
+        redisUtils.deleteRefreshTokenSessions(userPk);
+    }
+
+    // 만료 시각은 Redis 세션에 저장한 값과 같게 설정
+    private String createRefreshToken(String userPk, String sessionId, String tokenId, long expiresAt) {
         return Jwts.builder()
-                .setExpiration(new Date(now.getTime() + StaticValue.JWT_REFRESH_TOKEN_VALID_TIME))
+                .setSubject(userPk)
+                .setId(tokenId)
+                .claim(SESSION_ID_CLAIM, sessionId)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(expiresAt))
                 .signWith(SignatureAlgorithm.HS256, this.secretKey)
                 .compact();
     }
 
+    // REFRESH TOKEN 종류가 아닌 토큰(ACCESS TOKEN)이나 세션 정보(sid)가 없는 이전 형식의 REFRESH TOKEN은 유효하지 않은 것으로 처리합니다.
+    private Claims parseRefreshClaims(String refreshToken) {
+        Claims claims;
+        try {
+            claims = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(refreshToken).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadRequestException(ErrorCode.ROW_DOES_NOT_EXIST, MessageUtil.INVALID_REFRESH_TOKEN);
+        }
+
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))
+                || claims.getSubject() == null || claims.getId() == null || claims.get(SESSION_ID_CLAIM, String.class) == null) {
+            throw new BadRequestException(ErrorCode.ROW_DOES_NOT_EXIST, MessageUtil.INVALID_REFRESH_TOKEN);
+        }
+        return claims;
+    }
+
+    // ACCESS TOKEN을 한 번만 파싱하여 검증 후 인증 정보를 만듭니다.
     public Authentication getAuthentication(String token) {
-        String userPk = getUserPk(token);
-        UserDetails userDetails = userDetailsService.loadUserByUserId(userPk);
+        String userPk = parseValidClaims(token).getSubject();
+        CustomUserDetails userDetails = userDetailsService.loadUserByUserId(userPk);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
@@ -81,14 +167,24 @@ public class JwtTokenProvider {
 
     //ACCESS TOKEN만 Validate합니다.
     public boolean validateToken(String jwtToken) {
+        parseValidClaims(jwtToken);
+        return true;
+    }
+
+    private Claims parseValidClaims(String jwtToken) {
         try {
             Jws<Claims> claims = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(jwtToken);
 
-            if (redisUtils.isTokenBlacklisted(jwtToken)) {
+            // REFRESH TOKEN은 인증에 사용할 수 없음 (typ 가 없는 이전 ACCESS TOKEN은 sid 도 없으므로 허용)
+            if (isRefreshToken(claims.getBody())) {
+                throw new UnauthorizedException(ErrorCode.INVALID_JWT, MessageUtil.INVALID_TOKEN);
+            }
+
+            if (tokenBlacklist.isBlacklisted(getTokenId(claims.getBody(), jwtToken))) {
                 throw new UnauthorizedException(ErrorCode.INVALID_JWT, "블랙리스트에 등록된 토큰입니다.");
             }
 
-            return true;
+            return claims.getBody();
 
         } catch (ExpiredJwtException e) {
             throw new UnauthorizedException(ErrorCode.EXPIRED_JWT, MessageUtil.EXPIRED_TOKEN);
@@ -96,4 +192,26 @@ public class JwtTokenProvider {
             throw new UnauthorizedException(ErrorCode.INVALID_JWT, MessageUtil.INVALID_TOKEN);
         }
     }
+
+    // 남은 유효 시간 동안만 블랙리스트에 등록 (이미 만료되었거나 유효하지 않은 토큰은 인증에 사용할 수 없으므로 무시)
+    public void addToBlacklist(String jwtToken) {
+        try {
+            Claims claims = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(jwtToken).getBody();
+            long remainingTime = claims.getExpiration().getTime() - System.currentTimeMillis();
+            if (remainingTime > 0) {
+                tokenBlacklist.add(getTokenId(claims, jwtToken), remainingTime);
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료(ExpiredJwtException 포함)되었거나 서명이 올바르지 않은 토큰
+        }
+    }
+
+    private boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class)) || claims.get(SESSION_ID_CLAIM) != null;
+    }
+
+    // jti 가 없는 이전 토큰은 토큰 값 자체를 id로 사용
+    private String getTokenId(Claims claims, String jwtToken) {
+        return claims.getId() != null ? claims.getId() : jwtToken;
+    }
 }
@@ -0,0 +1,186 @@
+package net.causw.config.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.domain.model.util.RedisUtils;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그아웃된 AccessToken 블랙리스트 앞에 서버 메모리의 Bloom filter를 두어, 블랙리스트에 없는 대부분의 토큰은 Redis를 조회하지 않습니다.
+ * Bloom filter에 있을 수도 있는 토큰만 Redis에서 확인하므로 오탐은 Redis 조회 한 번으로 끝나고, 이 서버에서 등록한 토큰은 미탐이 없습니다.
+ * 다른 서버의 등록은 pub/sub으로 반영하는데, pub/sub은 구독이 끊긴 동안의 메시지를 다시 보내지 않으므로
+ * 구독이 끊기거나 다시 맺어질 때, 또는 주기적으로 보내는 확인 메시지가 일정 시간 오지 않으면 filter를 끄고 모든 토큰을 Redis에서 확인하다가
+ * 구독이 정상일 때 Redis 기준으로 다시 만들어 사용합니다. 따라서 다른 서버의 등록을 놓칠 수 있는 시간은 끊김을 알아차리기 전까지로 제한됩니다.
+ * 만료된 토큰을 비우도록 주기적으로도 다시 만들며, 아직 만들어지지 않았으면 모든 토큰을 Redis에서 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist implements MessageListener, SubscriptionListener {
+
+    // 구독이 살아 있는지 확인하기 위한 메시지 (토큰 id와 구분되는 접두사)
+    private static final String PROBE_PREFIX = "probe:";
+
+    private final RedisUtils redisUtils;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile TokenBloomFilter filter;
+
+    // 재구성 중 도착한 등록도 새 filter에 반영하기 위한 참조
+    private volatile TokenBloomFilter rebuilding;
+
+    // filter/rebuilding 교체와 putLocal 을 직렬화하여, 교체 순간의 등록이 버려지는 filter 에만 들어가지 않도록 함
+    private final Object swapLock = new Object();
+
+    private volatile int lastTokenCount;
+
+    // 메시지를 놓쳤을 수 있을 때마다 증가, 그 사이에 진행된 재구성 결과는 사용하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile long lastMessageReceivedAt = System.currentTimeMillis();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(StaticValue.TOKEN_BLACKLIST_CHANNEL));
+    }
+
+    public boolean isBlacklisted(String tokenId) {
+        TokenBloomFilter current = filter;
+        if (current != null && !current.mightContain(tokenId)) {
+            return false;
+        }
+        return redisUtils.isTokenBlacklisted(tokenId);
+    }
+
+    public void add(String tokenId, long expiredTime) {
+        redisUtils.addToBlacklist(tokenId, expiredTime);
+        putLocal(tokenId);
+        try {
+            stringRedisTemplate.convertAndSend(StaticValue.TOKEN_BLACKLIST_CHANNEL, tokenId);
+        } catch (Exception e) {
+            // 다른 서버는 다음 재구성 때 반영
+            log.warn("Failed to relay blacklisted token: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        lastMessageReceivedAt = System.currentTimeMillis();
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!body.startsWith(PROBE_PREFIX)) {
+            putLocal(body);
+        }
+    }
+
+    // 처음 구독하거나 끊겼다가 다시 구독한 경우 (그 사이 다른 서버의 등록을 놓쳤을 수 있음)
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        lastMessageReceivedAt = System.currentTimeMillis();
+        invalidate();
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        invalidate();
+    }
+
+    @Scheduled(cron = "*/5 * * * * ?") // 5초마다 실행, 구독 상태 확인 및 꺼 둔 filter 재구성
+    public void checkSubscription() {
+        try {
+            stringRedisTemplate.convertAndSend(StaticValue.TOKEN_BLACKLIST_CHANNEL, PROBE_PREFIX + UUID.randomUUID());
+        } catch (Exception e) {
+            log.warn("Failed to send token blacklist probe: {}", e.getMessage());
+        }
+
+        if (isSubscriptionStale()) {
+            invalidate();
+        } else if (filter == null) {
+            rebuild();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "0 */10 * * * ?") // 10분마다 실행, 만료된 토큰 제거 및 누락된 등록 반영
+    public synchronized void rebuild() {
+        long startedGeneration = generation.get();
+        TokenBloomFilter newFilter = new TokenBloomFilter(
+                Math.max(StaticValue.TOKEN_BLACKLIST_BLOOM_EXPECTED_INSERTIONS, lastTokenCount * 2),
+                StaticValue.TOKEN_BLACKLIST_BLOOM_FALSE_POSITIVE_RATE
+        );
+        try {
+            // SCAN 전에 등록된 토큰은 SCAN 결과로, SCAN 중/이후에 등록된 토큰은 putLocal로 새 filter에 들어감
+            synchronized (swapLock) {
+                rebuilding = newFilter;
+            }
+            List<String> tokenIds = redisUtils.scanBlacklistedTokenIds();
+            tokenIds.forEach(newFilter::put);
+            lastTokenCount = tokenIds.size();
+
+            // 새 filter 를 먼저 공개한 뒤 rebuilding 을 지우며, 재구성 중 구독이 끊겼으면 SCAN 이후의 등록을 놓쳤을 수 있으므로 사용하지 않음
+            synchronized (swapLock) {
+                if (generation.get() != startedGeneration || isSubscriptionStale()) {
+                    return;
+                }
+                filter = newFilter;
+                rebuilding = null;
+            }
+            log.info("Token blacklist filter rebuilt: {} tokens", tokenIds.size());
+        } catch (Exception e) {
+            log.warn("Failed to rebuild token blacklist filter: {}", e.getMessage());
+        } finally {
+            synchronized (swapLock) {
+                if (rebuilding == newFilter) {
+                    rebuilding = null;
+                }
+            }
+        }
+    }
+
+    private void invalidate() {
+        synchronized (swapLock) {
+            generation.incrementAndGet();
+            if (filter == null) {
+                return;
+            }
+            filter = null;
+        }
+        log.warn("Token blacklist subscription may have missed messages, checking Redis until rebuilt");
+    }
+
+    private boolean isSubscriptionStale() {
+        return System.currentTimeMillis() - lastMessageReceivedAt > StaticValue.TOKEN_BLACKLIST_SUBSCRIPTION_TIMEOUT;
+    }
+
+    // 재구성 중이면 새 filter 와 현재 filter 모두에 등록 (교체와 같은 잠금 안에서 실행되므로 교체 순간에도 누락되지 않음)
+    private void putLocal(String tokenId) {
+        synchronized (swapLock) {
+            if (rebuilding != null) {
+                rebuilding.put(tokenId);
+            }
+            if (filter != null) {
+                filter.put(tokenId);
+            }
+        }
+    }
+}
@@ -1,42 +1,59 @@
 package net.causw.config.security.userdetails;
 
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
 import net.causw.adapter.persistence.user.User;
+import net.causw.domain.model.enums.user.Role;
 import net.causw.domain.model.enums.user.UserState;
+import net.causw.domain.model.enums.userAcademicRecord.AcademicStatus;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-@Getter
-@Builder
-@AllArgsConstructor
+/**
+ * 인가에는 UserSnapshot 을 사용하고, User 엔티티는 getUser() 를 처음 호출할 때 조회합니다. (요청 내에서는 한 번만 조회)
+ */
 public class CustomUserDetails implements UserDetails {
-    private final User user;
+    private final UserSnapshot userSnapshot;
+    private final Supplier<User> userLoader;
+    private User user;
+
+    private CustomUserDetails(UserSnapshot userSnapshot, Supplier<User> userLoader, User user) {
+        this.userSnapshot = userSnapshot;
+        this.userLoader = userLoader;
+        this.user = user;
+    }
+
+    public static CustomUserDetails of(User user) {
+        return new CustomUserDetails(UserSnapshot.of(user), () -> user, user);
+    }
+
+    public static CustomUserDetails of(UserSnapshot userSnapshot, Supplier<User> userLoader) {
+        return new CustomUserDetails(userSnapshot, userLoader, null);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
+        return userSnapshot.getRoles().stream()
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
                 .collect(Collectors.toList());
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return getUser().getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getName();
+        return userSnapshot.getName();
     }
 
     public String getUserId(){
-        return user.getId();
+        return userSnapshot.getId();
     }
 
     @Override
@@ -56,14 +73,25 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.getState() == UserState.ACTIVE;
+        return userSnapshot.getState() == UserState.ACTIVE;
     }
 
     public User getUser() {
+        if (this.user == null) {
+            this.user = userLoader.get();
+        }
         return this.user;
     }
 
     public UserState getUserState() {
-        return user.getState();
+        return userSnapshot.getState();
+    }
+
+    public Set<Role> getRoles() {
+        return userSnapshot.getRoles();
+    }
+
+    public AcademicStatus getAcademicStatus() {
+        return userSnapshot.getAcademicStatus();
     }
 }
@@ -15,28 +15,26 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        return CustomUserDetails.builder()
-                .user(user)
-                .build();
+        return CustomUserDetails.of(user);
     }
 
-    public UserDetails loadUserByUserId(String userId) throws UsernameNotFoundException {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BadRequestException(
-                        ErrorCode.ROW_DOES_NOT_EXIST,
-                        MessageUtil.LOGIN_USER_NOT_FOUND
+    // 토큰의 사용자 id로 인증 정보 생성 (User 엔티티는 실제로 필요할 때 조회)
+    public CustomUserDetails loadUserByUserId(String userId) {
+        return CustomUserDetails.of(
+                userSnapshotCache.get(userId),
+                () -> userRepository.findById(userId)
+                        .orElseThrow(() -> new BadRequestException(
+                                ErrorCode.ROW_DOES_NOT_EXIST,
+                                MessageUtil.LOGIN_USER_NOT_FOUND
+                                )
                         )
-                );
-
-        return CustomUserDetails.builder()
-                .user(user)
-                .build();
+        );
     }
 }
-
@@ -0,0 +1,54 @@
+package net.causw.config.security.userdetails;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.causw.adapter.persistence.repository.user.UserAuthorityProjection;
+import net.causw.adapter.persistence.user.User;
+import net.causw.domain.model.enums.user.Role;
+import net.causw.domain.model.enums.user.UserState;
+import net.causw.domain.model.enums.userAcademicRecord.AcademicStatus;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 인가 판단에 사용하는 사용자 정보 (요청 간에 공유되므로 변경 불가)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserSnapshot {
+    private final String id;
+    private final String name;
+    private final Set<Role> roles;
+    private final UserState state;
+    private final AcademicStatus academicStatus;
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getName(),
+                toImmutableRoles(user.getRoles()),
+                user.getState(),
+                user.getAcademicStatus()
+        );
+    }
+
+    public static UserSnapshot of(List<UserAuthorityProjection> rows) {
+        UserAuthorityProjection user = rows.get(0);
+        return new UserSnapshot(
+                user.getId(),
+                user.getName(),
+                toImmutableRoles(rows.stream()
+                        .map(UserAuthorityProjection::getRole)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())),
+                user.getState(),
+                user.getAcademicStatus()
+        );
+    }
+
+    private static Set<Role> toImmutableRoles(Set<Role> roles) {
+        return Set.copyOf(roles);
+    }
+}
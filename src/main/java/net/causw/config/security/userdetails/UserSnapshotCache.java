@@ -0,0 +1,77 @@
+package net.causw.config.security.userdetails;
+
+import lombok.RequiredArgsConstructor;
+import net.causw.adapter.persistence.repository.user.UserAuthorityProjection;
+import net.causw.adapter.persistence.repository.user.UserRepository;
+import net.causw.domain.exceptions.BadRequestException;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.model.util.MessageUtil;
+import net.causw.domain.model.util.StaticValue;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증된 요청마다 사용자를 DB에서 조회하지 않도록 인가에 필요한 사용자 정보(역할, 상태, 학적 상태)를 서버 메모리에 캐싱합니다.
+ * 사용자 정보가 변경되면 UserSnapshotInvalidationListener 가 커밋 이후 무효화하며,
+ * 다른 서버에서 변경된 경우에는 TTL 이내에서만 지연될 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    // 조회 중 무효화가 일어난 경우 조회한 (이전) 정보를 캐싱하지 않기 위한 값
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public UserSnapshot get(String userId) {
+        Entry entry = cache.get(userId);
+        if (entry != null && !entry.isExpired()) {
+            return entry.snapshot;
+        }
+
+        long invalidationCountBeforeLoad = invalidationCount.get();
+        List<UserAuthorityProjection> rows = userRepository.findAuthoritiesById(userId);
+        if (rows.isEmpty()) {
+            cache.remove(userId);
+            throw new BadRequestException(
+                    ErrorCode.ROW_DOES_NOT_EXIST,
+                    MessageUtil.LOGIN_USER_NOT_FOUND
+            );
+        }
+
+        UserSnapshot snapshot = UserSnapshot.of(rows);
+        if (cache.size() >= StaticValue.USER_SNAPSHOT_CACHE_MAX_SIZE) {
+            cache.values().removeIf(Entry::isExpired);
+        }
+        if (invalidationCount.get() == invalidationCountBeforeLoad && cache.size() < StaticValue.USER_SNAPSHOT_CACHE_MAX_SIZE) {
+            cache.put(userId, new Entry(snapshot, System.currentTimeMillis() + StaticValue.USER_SNAPSHOT_CACHE_TTL));
+        }
+        return snapshot;
+    }
+
+    public void evict(String userId) {
+        invalidationCount.incrementAndGet();
+        cache.remove(userId);
+    }
+
+    private static class Entry {
+        private final UserSnapshot snapshot;
+        private final long expiresAt;
+
+        private Entry(UserSnapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package net.causw.config.security.userdetails;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.causw.adapter.persistence.user.User;
+import net.causw.config.security.JwtTokenProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+
+/**
+ * User 엔티티(역할 컬렉션 포함)가 수정/삭제되면 UserSnapshotCache 에서 해당 사용자를 무효화합니다.
+ * 역할, 상태, 학적 상태를 변경하는 코드가 여러 서비스에 흩어져 있어 서비스마다 이벤트를 발행하는 대신 Hibernate 이벤트로 한 곳에서 처리합니다.
+ * flush 시점에 바로 무효화하고, 트랜잭션 중이면 커밋 이후에 한 번 더 무효화하여 커밋 전 정보가 다시 캐싱되지 않도록 합니다.
+ * 비밀번호, 상태, 역할이 바뀌거나 삭제된 사용자는 커밋 이후 모든 기기의 refresh token 세션도 폐기합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSnapshotInvalidationListener implements
+        PostUpdateEventListener,
+        PostDeleteEventListener,
+        PostCollectionRecreateEventListener,
+        PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    // 변경되면 모든 세션을 폐기하는 User 속성
+    private static final Set<String> SESSION_REVOKING_PROPERTIES = Set.of("password", "state");
+    private static final String ROLES_COLLECTION_SUFFIX = ".roles";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserSnapshotCache userSnapshotCache;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        evict(event.getEntity(), isSessionRevokingUpdate(event));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        evict(event.getEntity(), true);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        evict(event.getAffectedOwnerOrNull(), isRolesCollection(event));
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        evict(event.getAffectedOwnerOrNull(), isRolesCollection(event));
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        evict(event.getAffectedOwnerOrNull(), isRolesCollection(event));
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void evict(Object entity, boolean revokeSessions) {
+        if (!(entity instanceof User user) || user.getId() == null) {
+            return;
+        }
+
+        String userId = user.getId();
+        userSnapshotCache.evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    userSnapshotCache.evict(userId);
+                    // 롤백된 변경으로는 로그아웃시키지 않음
+                    if (revokeSessions && status == STATUS_COMMITTED) {
+                        revokeSessions(userId);
+                    }
+                }
+            });
+        } else if (revokeSessions) {
+            revokeSessions(userId);
+        }
+    }
+
+    private void revokeSessions(String userId) {
+        try {
+            jwtTokenProvider.revokeAllRefreshTokens(userId);
+        } catch (Exception e) {
+            log.warn("Failed to revoke refresh token sessions of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private boolean isSessionRevokingUpdate(PostUpdateEvent event) {
+        int[] dirtyProperties = event.getDirtyProperties();
+        if (dirtyProperties == null) {
+            return false;
+        }
+
+        String[] propertyNames = event.getPersister().getPropertyNames();
+        for (int index : dirtyProperties) {
+            if (SESSION_REVOKING_PROPERTIES.contains(propertyNames[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRolesCollection(AbstractCollectionEvent event) {
+        String role = event.getCollection().getRole();
+        return role != null && role.endsWith(ROLES_COLLECTION_SUFFIX);
+    }
+}
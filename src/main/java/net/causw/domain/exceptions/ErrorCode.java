@@ -47,6 +47,11 @@ public enum ErrorCode {
     EXPIRED_JWT(4110),
     DELETED_USER(4111),
 
+    /**
+     * 429 Too Many Requests
+     */
+    TOO_MANY_REQUESTS(4290),
+
     /**
      * 500 Internal Server Error
      */
@@ -1,7 +1,17 @@
 package net.causw.domain.exceptions;
 
+import lombok.Getter;
+
+@Getter
 public class ServiceUnavailableException extends BaseRuntimeException {
+    private final Long retryAfterSeconds;   // Retry-After 응답 헤더 (없으면 null)
+
     public ServiceUnavailableException(ErrorCode errorCode, String message) {
+        this(errorCode, message, null);
+    }
+
+    public ServiceUnavailableException(ErrorCode errorCode, String message, Long retryAfterSeconds) {
         super(errorCode, message);
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 }
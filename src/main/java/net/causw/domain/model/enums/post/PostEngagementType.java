@@ -0,0 +1,18 @@
+package net.causw.domain.model.enums.post;
+
+import lombok.Getter;
+
+// 인기 게시글 점수에 반영되는 활동 종류와 가중치
+@Getter
+public enum PostEngagementType {
+    LIKE(3.0),
+    FAVORITE(4.0),
+    COMMENT(2.0),
+    CHILD_COMMENT(1.0);
+
+    private final double weight;
+
+    PostEngagementType(double weight) {
+        this.weight = weight;
+    }
+}
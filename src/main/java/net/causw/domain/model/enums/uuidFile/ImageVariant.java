@@ -0,0 +1,15 @@
+package net.causw.domain.model.enums.uuidFile;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 업로드한 원본 이미지로부터 생성하는 파생 이미지 (긴 변 기준 최대 크기)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum ImageVariant {
+    THUMBNAIL(320),
+    MEDIUM(1280);
+
+    private final int maxSize;
+}
@@ -14,6 +14,15 @@ public class MessageUtil {
     public static final String EXPIRED_TOKEN = "만료된 AccessToken 입니다";
     public static final String DOES_NOT_HAVE_PERMISSION = "권한이 없습니다.";
 
+    // 503
+    public static final String PASSWORD_HASH_BUSY = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    // 429
+    public static final String TOO_MANY_REQUESTS = "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    // 413
+    public static final String REQUEST_BODY_TOO_LARGE = "요청 본문이 너무 큽니다.";
+
     // Form
     public static final String IS_NEED_COUNCIL_FEE_REQUIRED = "학생회비 납부 여부를 선택해 주세요.";
     public static final String INVALID_REGISTERED_SEMESTER_INFO = "재학/휴학생 답변 가능을 선택했다면 답변할 수 있는 등록 완료 학기에 대한 정보가 필요합니다.";
@@ -57,12 +66,10 @@ public class MessageUtil {
     public static final String POST_DELETED = "삭제된 게시물입니다.";
     public static final String BOARD_NAME_ALREADY_EXISTS = "게시판 이름이 이미 존재합니다.";
     public static final String INVALID_BOARD_CATEGORY = "유효하지 않은 게시판 카테고리입니다.";
+    public static final String INVALID_POST_CURSOR = "게시글 커서는 생성 시간과 id를 함께 전달해야 합니다.";
+    public static final String INVALID_NOTIFICATION_CURSOR = "알림 커서는 생성 시간과 id를 함께 전달해야 합니다.";
 
     // Like & favorite
-    public static final String POST_ALREADY_LIKED = "좋아요를 이미 누른 게시글 입니다.";
-    public static final String POST_ALREADY_FAVORITED = "즐겨찾기를 이미 누른 게시글 입니다.";
-    public static final String COMMENT_ALREADY_LIKED = "좋아요를 이미 누른 댓글입니다.";
-    public static final String CHILD_COMMENT_ALREADY_LIKED = "좋아요를 이미 누른 대댓글입니다.";
     public static final String FAVORITE_POST_NOT_FOUND = "즐겨찾기가 되어 있지 않습니다.";
     public static final String FAVORITE_POST_ALREADY_DELETED = "즐겨찾기가 이미 취소되어 있습니다.";
 
@@ -1,51 +1,639 @@
 package net.causw.domain.model.util;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class RedisUtils {
 
+    private static final String POST_VIEW_BUFFER_KEY = "PostViewBuffer";
+    private static final String POST_VIEW_FLUSHING_KEY = "PostViewBuffer:Flushing";
+    private static final String HOT_POST_KEY = "HotPost";
+    private static final String HOT_POST_CONTRIBUTION_KEY = "HotPost:Contribution:";
+    private static final String USER_ORDINAL_KEY = "UserOrdinal";
+    private static final String USER_ORDINAL_SEQUENCE_KEY = "UserOrdinal:Sequence";
+    private static final String BOARD_SUBSCRIBER_KEY = "BoardSubscriber:";
+    private static final String BOARD_SUBSCRIBER_REBUILDING_KEY = "BoardSubscriber:Rebuilding";
+    private static final String BOARD_SUBSCRIBER_DIRTY_KEY = "BoardSubscriber:Dirty";
+    private static final String BOARD_SUBSCRIBER_BUILT_KEY = "BoardSubscriber:Built";
+    private static final String FAVORITE_BOARD_KEY = "FavoriteBoard:";
+    private static final String FAVORITE_BOARD_LOADED_MEMBER = "";
+    private static final String PAGE_TOTAL_KEY = "PageTotal:";
+    private static final String REFRESH_TOKEN_SESSION_KEY = "RefreshTokenSession:";
+    private static final String BLACKLIST_KEY = "Blacklist:";
+    private static final String RATE_LIMIT_KEY = "RateLimit:";
+    private static final String JOB_LOCK_KEY = "JobLock:";
+
+    // 활동(ARGV[2])의 점수를 KEYS[1]에 기록하고 랭킹 key(KEYS[2..])에 log 공간에서 더하며(ln(e^a + e^b)) 상위 ARGV[5]개만 유지
+    // 취소 시에는 기록해 둔 원래 점수를 빼므로(ln(e^a - e^b)) 다른 활동의 점수까지 빠지지 않음 (기록이 만료되었으면 빼지 않음)
+    // ARGV: 게시글 id, 활동 key, 점수, 취소 여부, 최대 게시글 수, 기록 만료 시간
+    private static final RedisScript<Long> HOT_POST_SCORE_SCRIPT = new DefaultRedisScript<>(
+            "local delta = tonumber(ARGV[3]) " +
+            "if tonumber(ARGV[4]) == 0 then " +
+            "  redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[6]) " +
+            "else " +
+            "  local added = redis.call('HGET', KEYS[1], ARGV[2]) " +
+            "  if not added then return 0 end " +
+            "  redis.call('HDEL', KEYS[1], ARGV[2]) " +
+            "  delta = tonumber(added) " +
+            "end " +
+            "for i = 2, #KEYS do " +
+            "  local current = redis.call('ZSCORE', KEYS[i], ARGV[1]) " +
+            "  if tonumber(ARGV[4]) == 0 then " +
+            "    local score = delta " +
+            "    if current then " +
+            "      current = tonumber(current) " +
+            "      local high = math.max(current, delta) " +
+            "      score = high + math.log(1 + math.exp(math.min(current, delta) - high)) " +
+            "    end " +
+            "    redis.call('ZADD', KEYS[i], score, ARGV[1]) " +
+            "    redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[5]) + 1)) " +
+            "  elseif current then " +
+            "    current = tonumber(current) " +
+            "    if current - delta > 1e-9 then " +
+            "      redis.call('ZADD', KEYS[i], current + math.log(1 - math.exp(delta - current)), ARGV[1]) " +
+            "    else " +
+            "      redis.call('ZREM', KEYS[i], ARGV[1]) " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    // 버퍼(KEYS[1])가 있으면 처리 중 key(KEYS[2])로 옮겨 만료 시간(ARGV[1])을 두고, 옮긴 시각(ms)과 함께 처리 중 목록(KEYS[3])에 등록
+    // 옮겼으면 1, 버퍼가 없으면(다른 서버가 먼저 옮겼거나 만료된 경우) 목록에서 지우고 0
+    private static final RedisScript<Long> CLAIM_POST_VIEW_BUFFER_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[3], KEYS[1]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "local time = redis.call('TIME') " +
+            "redis.call('ZADD', KEYS[3], tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000), KEYS[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    // 순번이 없는 사용자에게 0부터 차례로 순번을 부여하고, 요청한 사용자들의 순번을 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> USER_ORDINAL_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for i, userId in ipairs(ARGV) do " +
+            "  local ordinal = redis.call('HGET', KEYS[1], userId) " +
+            "  if not ordinal then " +
+            "    ordinal = redis.call('INCR', KEYS[2]) - 1 " +
+            "    redis.call('HSET', KEYS[1], userId, ordinal) " +
+            "  end " +
+            "  result[i] = tonumber(ordinal) " +
+            "end " +
+            "return result",
+            List.class
+    );
+
+    // 재구성 중(KEYS[2])이면 변경(ARGV[3])을 기록(KEYS[3])하고, bitmap(KEYS[1])이 있을 때만 bit를 바꿈 (없는 bitmap을 한 bit만으로 만들지 않음)
+    // ARGV[1]이 빈 문자열이면 bitmap을 삭제하여 재구성 전까지 DB에서 조회하도록 함
+    private static final RedisScript<Long> SET_BOARD_SUBSCRIBER_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[3] ~= '' and redis.call('EXISTS', KEYS[2]) == 1 then redis.call('SADD', KEYS[3], ARGV[3]) end " +
+            "if ARGV[1] == '' then return redis.call('DEL', KEYS[1]) end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('SETBIT', KEYS[1], ARGV[1], ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    // bitmap이 없으면 -1, 구독 중이면 1, 아니면 0
+    private static final RedisScript<Long> IS_BOARD_SUBSCRIBER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('GETBIT', KEYS[1], ARGV[1])",
+            Long.class
+    );
+
+    // 캐시되어 있지 않으면 -1, 즐겨찾기 게시판이면 1, 아니면 0
+    private static final RedisScript<Long> FAVORITE_BOARD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then return -1 end " +
+            "return redis.call('SISMEMBER', KEYS[1], ARGV[2])",
+            Long.class
+    );
+
+    // 서버마다 시계가 달라도 유예 시간과 만료 시각이 같은 기준을 따르도록 Redis 시각(ms)을 사용
+    private static final String REDIS_NOW =
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) ";
+
+    // 만료된 세션을 지우고, 남은 세션 중 가장 늦은 만료 시각에 맞춰 key 만료 시간을 설정 (now: 현재 시각 ms)
+    private static final String PRUNE_REFRESH_TOKEN_SESSIONS =
+            "local latest = 0 " +
+            "local sessions = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #sessions, 2 do " +
+            "  local expiresAt = tonumber(string.match(sessions[i + 1], '^[^|]*|([^|]*)')) " +
+            "  if not expiresAt or expiresAt <= now then " +
+            "    redis.call('HDEL', KEYS[1], sessions[i]) " +
+            "  elseif expiresAt > latest then " +
+            "    latest = expiresAt " +
+            "  end " +
+            "end " +
+            "if latest > 0 then redis.call('PEXPIRE', KEYS[1], latest - now) end ";
+
+    // ARGV: 세션 id, refresh token id, 유효 시간, 만료 시각을 반환
+    private static final RedisScript<Long> ADD_REFRESH_TOKEN_SESSION_SCRIPT = new DefaultRedisScript<>(
+            REDIS_NOW +
+            "local expiresAt = now + tonumber(ARGV[3]) " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. expiresAt .. '||') " +
+            PRUNE_REFRESH_TOKEN_SESSIONS +
+            "return expiresAt",
+            Long.class
+    );
+
+    // ARGV: 세션 id, 제시한 id, 새 id, 유효 시간, 유예 시간
+    // 제시한 id가 현재 id이면 새 id로 교체하고 {1, 새 id, 새 만료 시각}
+    // 유예 시간 안에 직전 id가 다시 제시되면 교체하지 않고 {2, 현재 id, 현재 만료 시각}
+    // 세션이 없으면 {0}, 그 밖에 이미 교체된 id가 다시 제시되면 해당 세션을 삭제하고 {-1}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_REFRESH_TOKEN_SCRIPT = new DefaultRedisScript<>(
+            REDIS_NOW +
+            "local value = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not value then return {'0'} end " +
+            "local current, expiresAt, previous, rotatedAt = string.match(value, '^([^|]*)|([^|]*)|([^|]*)|([^|]*)$') " +
+            "if current == ARGV[2] then " +
+            "  local newExpiresAt = now + tonumber(ARGV[4]) " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. newExpiresAt .. '|' .. current .. '|' .. now) " +
+            PRUNE_REFRESH_TOKEN_SESSIONS +
+            "  return {'1', ARGV[3], tostring(newExpiresAt)} " +
+            "end " +
+            "if previous == ARGV[2] and now - tonumber(rotatedAt) <= tonumber(ARGV[5]) then " +
+            "  return {'2', current, expiresAt} " +
+            "end " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "return {'-1'}",
+            List.class
+    );
+
+    // 모든 token bucket(ARGV: key마다 용량, 토큰 하나가 채워지는 ms)에 토큰이 있을 때만 하나씩 소비
+    // 허용되면 {0, 0}, 거절되면 {다시 시도할 수 있을 때까지의 ms, 거절한 key 번호(1부터)}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RATE_LIMIT_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local tokens = {} " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local capacity = tonumber(ARGV[i * 2 - 1]) " +
+            "  local refillMillis = tonumber(ARGV[i * 2]) " +
+            "  local bucket = redis.call('HMGET', key, 'tokens', 'ts') " +
+            "  local current = tonumber(bucket[1]) or capacity " +
+            "  local ts = tonumber(bucket[2]) or now " +
+            "  current = math.min(capacity, current + math.max(0, now - ts) / refillMillis) " +
+            "  if current < 1 then " +
+            "    return {math.ceil((1 - current) * refillMillis), i} " +
+            "  end " +
+            "  tokens[i] = current " +
+            "end " +
+            "for i, key in ipairs(KEYS) do " +
+            "  redis.call('HSET', key, 'tokens', tostring(tokens[i] - 1), 'ts', now) " +
+            "  redis.call('PEXPIRE', key, math.ceil(tonumber(ARGV[i * 2 - 1]) * tonumber(ARGV[i * 2]))) " +
+            "end " +
+            "return {0, 0}",
+            List.class
+    );
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     /* 로그인 관련 Redis 메서드
-    * 1. RefreshToken
-    * Key: RefreshToken:{RefreshToken 값}
-    * Value: {User ID}
+    * 1. RefreshTokenSession (Hash)
+    * Key: RefreshTokenSession:{User ID}
+    * Field: {로그인 세션 ID (RefreshToken sid)}
+    * Value: "{현재 RefreshToken jti}|{만료 시각(ms)}|{직전 jti}|{교체 시각(ms)}" (교체 전에는 직전 jti, 교체 시각이 빈 값)
     *
     * 2. Blacklist
-    * Key: Blacklist:{AccessToken 값}
+    * Key: Blacklist:{AccessToken jti (jti가 없는 이전 토큰은 AccessToken 값)}
     * Value: "BLACKLISTED"
      */
-    public void setRefreshTokenData(String key, String value, Long expiredTime){
-        String redisKey = "RefreshToken:" + key;
-        redisTemplate.opsForValue().set(redisKey, value, expiredTime, TimeUnit.MILLISECONDS);
+    // 세션을 추가하면서 만료된 세션을 정리하고, Redis 시각 기준 만료 시각(ms)을 반환
+    // (script에서 비교할 수 있도록 값은 JSON이 아닌 문자열 그대로 저장)
+    public long addRefreshTokenSession(String userId, String sessionId, String tokenId, long validTime) {
+        return redisTemplate.execute(
+                ADD_REFRESH_TOKEN_SESSION_SCRIPT,
+                StringRedisSerializer.UTF_8,
+                null,
+                List.of(REFRESH_TOKEN_SESSION_KEY + userId),
+                sessionId,
+                tokenId,
+                String.valueOf(validTime)
+        );
     }
 
-    public String getRefreshTokenData(String key){
-        String redisKey = "RefreshToken:" + key;
-        return (String) redisTemplate.opsForValue().get(redisKey);
+    // 반환값: {결과, 사용할 jti, 만료 시각(ms)}, 결과는 교체되면 1, 유예 시간 안의 재사용이면 2,
+    // 세션이 없으면 0, 이미 교체된 토큰을 다시 사용하여 세션을 삭제했으면 -1 (0, -1이면 jti와 만료 시각 없음)
+    // 결과 list의 각 값은 result serializer로 문자열로 변환됨
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<String> rotateRefreshTokenSession(String userId, String sessionId, String tokenId, String newTokenId,
+                                                  long validTime, long graceTime) {
+        List<String> result = (List<String>) redisTemplate.execute(
+                ROTATE_REFRESH_TOKEN_SCRIPT,
+                StringRedisSerializer.UTF_8,
+                (RedisSerializer) StringRedisSerializer.UTF_8,
+                List.of(REFRESH_TOKEN_SESSION_KEY + userId),
+                sessionId,
+                tokenId,
+                newTokenId,
+                String.valueOf(validTime),
+                String.valueOf(graceTime)
+        );
+        return result == null || result.isEmpty() ? List.of("0") : result;
     }
 
-    public void deleteRefreshTokenData(String key){
-        String redisKey = "RefreshToken:" + key;
-        redisTemplate.delete(redisKey);
+    public void deleteRefreshTokenSession(String userId, String sessionId) {
+        redisTemplate.opsForHash().delete(REFRESH_TOKEN_SESSION_KEY + userId, sessionId);
+    }
+
+    // 모든 기기에서 로그아웃 (key 하나만 삭제)
+    public void deleteRefreshTokenSessions(String userId) {
+        redisTemplate.delete(REFRESH_TOKEN_SESSION_KEY + userId);
     }
 
-    public void addToBlacklist(String token) {
-        String redisKey = "Blacklist" + token;
-        redisTemplate.opsForValue().set(redisKey, "BLACKLISTED", StaticValue.JWT_ACCESS_TOKEN_VALID_TIME, TimeUnit.SECONDS);
+    public void addToBlacklist(String tokenId, Long expiredTime) {
+        String redisKey = BLACKLIST_KEY + tokenId;
+        redisTemplate.opsForValue().set(redisKey, "BLACKLISTED", expiredTime, TimeUnit.MILLISECONDS);
     }
 
-    public boolean isTokenBlacklisted(String token) {
-        String redisKey = "Blacklist" + token;
+    public boolean isTokenBlacklisted(String tokenId) {
+        String redisKey = BLACKLIST_KEY + tokenId;
         return "BLACKLISTED".equals(redisTemplate.opsForValue().get(redisKey));
     }
 
+    // 블랙리스트에 등록된 모든 토큰 id (KEYS 대신 SCAN으로 나누어 조회)
+    public List<String> scanBlacklistedTokenIds() {
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_KEY + "*")
+                .count(StaticValue.TOKEN_BLACKLIST_SCAN_COUNT)
+                .build();
+
+        return redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> tokenIds = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    tokenIds.add(serializer.deserialize(cursor.next()).substring(BLACKLIST_KEY.length()));
+                }
+            }
+            return tokenIds;
+        });
+    }
+
+    /* 요청 수 제한 관련 Redis 메서드
+    * 1. RateLimit (Hash)
+    * Key: RateLimit:{제한 대상}
+    * Field: tokens, ts
+    * Value: {남은 토큰 수}, {마지막으로 갱신한 시각(ms)}
+     */
+    // 반환값: [다시 시도할 수 있을 때까지의 ms (허용 시 0), 거절한 key의 index (허용 시 -1)]
+    public long[] consumeRateLimitTokens(List<String> keys, List<Long> capacities, List<Long> refillMillis) {
+        Object[] args = new Object[keys.size() * 2];
+        for (int i = 0; i < keys.size(); i++) {
+            args[i * 2] = capacities.get(i);
+            args[i * 2 + 1] = refillMillis.get(i);
+        }
+
+        List<?> result = redisTemplate.execute(
+                RATE_LIMIT_SCRIPT,
+                keys.stream().map(key -> RATE_LIMIT_KEY + key).toList(),
+                args
+        );
+        return new long[]{((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue() - 1};
+    }
+
+    /* 게시글 조회수 관련 Redis 메서드
+    * 1. PostView
+    * Key: PostView:{Post ID}:{User ID}
+    * Value: "VIEWED"
+    *
+    * 2. PostViewBuffer (Hash)
+    * Key: PostViewBuffer (누적 중) / PostViewBuffer:{UUID} (DB 반영 중)
+    * Field: {Post ID}
+    * Value: {DB에 반영되지 않은 조회수}
+    *
+    * 3. PostViewBuffer:Flushing (Sorted Set)
+    * Key: PostViewBuffer:Flushing
+    * Member: {DB 반영 중인 버퍼 key}
+    * Score: {반영을 시작한 시각(ms)}
+     */
+    public boolean markPostViewed(String postId, String userId, Long expiredTime) {
+        String redisKey = "PostView:" + postId + ":" + userId;
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(redisKey, "VIEWED", expiredTime, TimeUnit.MILLISECONDS));
+    }
+
+    public void increasePostViewBuffer(String postId, Long delta) {
+        redisTemplate.opsForHash().increment(POST_VIEW_BUFFER_KEY, postId, delta);
+    }
+
+    // 누적 중인 버퍼를 반영 중 key로 옮김, 이후 들어온 조회수는 새 버퍼에 쌓임 (옮길 버퍼가 없으면 null)
+    public String claimPostViewBuffer(Long expiredTime) {
+        return claimPostViewBuffer(POST_VIEW_BUFFER_KEY, expiredTime);
+    }
+
+    // 반영을 시작한 지 staleTime 이상 지났는데 남아 있는 버퍼(반영 실패, 서버 종료)를 새 key로 옮겨 가져옴
+    public List<String> claimStalePostViewBuffers(Long staleTime, Long expiredTime) {
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        byte[] registryKey = serializer.serialize(POST_VIEW_FLUSHING_KEY);
+        long maxScore = System.currentTimeMillis() - staleTime;
+        Set<byte[]> staleKeys = redisTemplate.execute((RedisCallback<Set<byte[]>>) connection ->
+                connection.zSetCommands().zRangeByScore(registryKey, 0, maxScore)
+        );
+        if (staleKeys == null) {
+            return List.of();
+        }
+
+        List<String> claimedKeys = new ArrayList<>();
+        for (byte[] staleKey : staleKeys) {
+            String claimedKey = claimPostViewBuffer(serializer.deserialize(staleKey), expiredTime);
+            if (claimedKey != null) {
+                claimedKeys.add(claimedKey);
+            }
+        }
+        return claimedKeys;
+    }
+
+    public Map<String, Long> getPostViewBuffer(String flushingKey) {
+        return redisTemplate.opsForHash().entries(flushingKey).entrySet().stream()
+                .collect(Collectors.toMap(
+                        entry -> (String) entry.getKey(),
+                        entry -> ((Number) entry.getValue()).longValue()
+                ));
+    }
+
+    // DB 반영이 끝난 버퍼 삭제
+    public void deletePostViewBuffer(String flushingKey) {
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        byte[] key = serializer.serialize(flushingKey);
+        byte[] registryKey = serializer.serialize(POST_VIEW_FLUSHING_KEY);
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.keyCommands().del(key);
+            connection.zSetCommands().zRem(registryKey, key);
+            return null;
+        });
+    }
+
+    private String claimPostViewBuffer(String sourceKey, Long expiredTime) {
+        String flushingKey = POST_VIEW_BUFFER_KEY + ":" + UUID.randomUUID();
+        Long result = redisTemplate.execute(
+                CLAIM_POST_VIEW_BUFFER_SCRIPT,
+                StringRedisSerializer.UTF_8,
+                null,
+                List.of(sourceKey, flushingKey, POST_VIEW_FLUSHING_KEY),
+                String.valueOf(expiredTime)
+        );
+        return result != null && result == 1 ? flushingKey : null;
+    }
+
+    /* 인기 게시글 관련 Redis 메서드
+    * 1. HotPost (Sorted Set)
+    * Key: HotPost (전체, 동아리 게시판 제외) / HotPost:{Board ID} (게시판별)
+    * Member: {Post ID}
+    * Score: ln(Σ 가중치 * 2^(활동 시각 / 반감기)), 값이 커져도 overflow 되지 않도록 log 공간에서 누적
+    *
+    * 2. HotPost:Contribution:{Post ID} (Hash)
+    * Field: {활동 종류}:{활동 id (좋아요/즐겨찾기는 User ID, 댓글/대댓글은 댓글 ID)}
+    * Value: {더한 점수}, 취소 시 같은 점수를 빼기 위해 보관
+     */
+    public void addHotPostScore(String boardId, String postId, String engagementKey, double logScore, boolean isCanceled, boolean includeGlobal) {
+        List<String> keys = includeGlobal
+                ? List.of(HOT_POST_CONTRIBUTION_KEY + postId, HOT_POST_KEY + ":" + boardId, HOT_POST_KEY)
+                : List.of(HOT_POST_CONTRIBUTION_KEY + postId, HOT_POST_KEY + ":" + boardId);
+        redisTemplate.execute(
+                HOT_POST_SCORE_SCRIPT,
+                StringRedisSerializer.UTF_8,
+                null,
+                keys,
+                postId,
+                engagementKey,
+                String.valueOf(logScore),
+                isCanceled ? "1" : "0",
+                String.valueOf(StaticValue.HOT_POST_MAX_SIZE),
+                String.valueOf(StaticValue.HOT_POST_CONTRIBUTION_TTL)
+        );
+    }
+
+    public List<String> getHotPostIds(String boardId, long size) {
+        String redisKey = boardId == null ? HOT_POST_KEY : HOT_POST_KEY + ":" + boardId;
+        Set<Object> postIds = redisTemplate.opsForZSet().reverseRange(redisKey, 0, size - 1);
+        if (postIds == null) {
+            return List.of();
+        }
+        return postIds.stream()
+                .map(String.class::cast)
+                .toList();
+    }
+
+    /* 게시판 구독자 관련 Redis 메서드
+    * 1. UserOrdinal (Hash)
+    * Field: {User ID}
+    * Value: {순번}, 사용자마다 0부터 차례로 부여되며 한 번 부여되면 바뀌지 않음 (다음 순번은 UserOrdinal:Sequence)
+    *
+    * 2. BoardSubscriber:{Board ID} (Bitmap)
+    * Offset: {사용자 순번}
+    * Value: 구독 중이면 1
+    *
+    * 3. BoardSubscriber:Rebuilding (String), BoardSubscriber:Dirty (Set)
+    * 재구성 중임을 나타내며, 재구성 중 변경된 구독을 {Board ID}:{User ID} 로 기록하여 재구성 후 다시 반영
+    *
+    * 4. BoardSubscriber:Built (String)
+    * 재구성을 한 번이라도 마쳤는지 여부
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> getOrCreateUserOrdinals(List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        // 인자는 JSON이 아닌 문자열 그대로 전달하고, 결과는 정수 목록이므로 역직렬화하지 않음
+        List<Long> ordinals = redisTemplate.execute(
+                USER_ORDINAL_SCRIPT,
+                StringRedisSerializer.UTF_8,
+                null,
+                List.of(USER_ORDINAL_KEY, USER_ORDINAL_SEQUENCE_KEY),
+                userIds.toArray()
+        );
+        return ordinals == null ? List.of() : ordinals;
+    }
+
+    // 순번이 없는 사용자는 null
+    public List<Long> getUserOrdinals(List<String> userIds) {
+        return getHashValues(USER_ORDINAL_KEY, userIds).stream()
+                .map(ordinal -> ordinal == null ? null : Long.valueOf(ordinal))
+                .toList();
+    }
+
+    // 구독 변경 반영 (재구성 중이면 재구성 후 다시 반영하도록 기록)
+    public void setBoardSubscriber(String boardId, String userId, long ordinal, boolean isSubscribed) {
+        executeBoardSubscriberScript(boardId, String.valueOf(ordinal), isSubscribed, boardId + ":" + userId);
+    }
+
+    // 재구성 중 기록된 변경을 다시 반영
+    public void resetBoardSubscriber(String boardId, long ordinal, boolean isSubscribed) {
+        executeBoardSubscriberScript(boardId, String.valueOf(ordinal), isSubscribed, "");
+    }
+
+    // 변경을 반영하지 못한 경우 bitmap을 삭제하여 재구성 전까지 DB에서 조회하도록 함 (userId가 null이면 변경을 기록하지 않음)
+    public void deleteBoardSubscriberBitmap(String boardId, String userId) {
+        executeBoardSubscriberScript(boardId, "", false, userId == null ? "" : boardId + ":" + userId);
+    }
+
+    // bitmap이 아직 없으면 null
+    public Boolean isBoardSubscriber(String boardId, long ordinal) {
+        Long result = redisTemplate.execute(
+                IS_BOARD_SUBSCRIBER_SCRIPT,
+                StringRedisSerializer.UTF_8,
+                null,
+                List.of(BOARD_SUBSCRIBER_KEY + boardId),
+                String.valueOf(ordinal)
+        );
+        return result == null || result < 0 ? null : result == 1;
+    }
+
+    public boolean isBoardSubscriberIndexBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BOARD_SUBSCRIBER_BUILT_KEY));
+    }
+
+    // 이전 재구성에서 남은 기록을 지우고 재구성 중 변경 기록을 시작 (재구성이 중단되어도 만료 시간 이후 기록을 멈춤)
+    public void startBoardSubscriberRebuild(Long expiredTime) {
+        redisTemplate.delete(BOARD_SUBSCRIBER_DIRTY_KEY);
+        redisTemplate.opsForValue().set(BOARD_SUBSCRIBER_REBUILDING_KEY, "REBUILDING", expiredTime, TimeUnit.MILLISECONDS);
+    }
+
+    // 재구성 중 변경된 구독 하나를 꺼냄 ({Board ID}:{User ID}), 없으면 null
+    public String popBoardSubscriberChange() {
+        byte[] key = StringRedisSerializer.UTF_8.serialize(BOARD_SUBSCRIBER_DIRTY_KEY);
+        byte[] member = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.setCommands().sPop(key));
+        return member == null ? null : StringRedisSerializer.UTF_8.deserialize(member);
+    }
+
+    public void finishBoardSubscriberRebuild() {
+        redisTemplate.delete(BOARD_SUBSCRIBER_REBUILDING_KEY);
+        redisTemplate.opsForValue().set(BOARD_SUBSCRIBER_BUILT_KEY, "BUILT");
+    }
+
+    private void executeBoardSubscriberScript(String boardId, String ordinal, boolean isSubscribed, String change) {
+        redisTemplate.execute(
+                SET_BOARD_SUBSCRIBER_SCRIPT,
+                StringRedisSerializer.UTF_8,
+                null,
+                List.of(BOARD_SUBSCRIBER_KEY + boardId, BOARD_SUBSCRIBER_REBUILDING_KEY, BOARD_SUBSCRIBER_DIRTY_KEY),
+                ordinal,
+                isSubscribed ? "1" : "0",
+                change
+        );
+    }
+
+    // bitmap 원본 (Redis bitmap은 byte 내에서 상위 bit부터 offset이 증가), 아직 만들어지지 않았으면 null
+    public byte[] getBoardSubscriberBitmap(String boardId) {
+        byte[] key = StringRedisSerializer.UTF_8.serialize(BOARD_SUBSCRIBER_KEY + boardId);
+        return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+    }
+
+    // 다른 key에 만든 뒤 교체하므로, 교체 전까지는 기존 bitmap으로 조회됨
+    public void replaceBoardSubscriberBitmap(String boardId, byte[] bitmap) {
+        byte[] key = StringRedisSerializer.UTF_8.serialize(BOARD_SUBSCRIBER_KEY + boardId);
+        byte[] buildingKey = StringRedisSerializer.UTF_8.serialize(BOARD_SUBSCRIBER_KEY + boardId + ":" + UUID.randomUUID());
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.stringCommands().set(buildingKey, bitmap);
+            connection.keyCommands().rename(buildingKey, key);
+            return null;
+        });
+    }
+
+    private List<String> getHashValues(String redisKey, List<String> fields) {
+        if (fields.isEmpty()) {
+            return List.of();
+        }
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        byte[][] rawFields = fields.stream()
+                .map(serializer::serialize)
+                .toArray(byte[][]::new);
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.hashCommands().hMGet(serializer.serialize(redisKey), rawFields)
+        );
+        if (values == null) {
+            return Collections.nCopies(fields.size(), null);
+        }
+        return values.stream()
+                .map(serializer::deserialize)
+                .collect(Collectors.toList());
+    }
+
+    /* 즐겨찾기 게시판 관련 Redis 메서드
+    * 1. FavoriteBoard (Set)
+    * Key: FavoriteBoard:{User ID}
+    * Member: {Board ID}, 즐겨찾기한 게시판이 없는 사용자도 캐시되도록 빈 문자열을 함께 저장
+     */
+    // 캐시되어 있지 않으면 null
+    public Boolean isFavoriteBoard(String userId, String boardId) {
+        Long result = redisTemplate.execute(
+                FAVORITE_BOARD_SCRIPT,
+                List.of(FAVORITE_BOARD_KEY + userId),
+                FAVORITE_BOARD_LOADED_MEMBER,
+                boardId
+        );
+        return result == null || result < 0 ? null : result == 1;
+    }
+
+    public void setFavoriteBoards(String userId, List<String> boardIds, Long expiredTime) {
+        String redisKey = FAVORITE_BOARD_KEY + userId;
+        Object[] members = new Object[boardIds.size() + 1];
+        members[0] = FAVORITE_BOARD_LOADED_MEMBER;
+        for (int i = 0; i < boardIds.size(); i++) {
+            members[i + 1] = boardIds.get(i);
+        }
+        redisTemplate.delete(redisKey);
+        redisTemplate.opsForSet().add(redisKey, members);
+        redisTemplate.expire(redisKey, expiredTime, TimeUnit.MILLISECONDS);
+    }
+
+    public void deleteFavoriteBoards(String userId) {
+        redisTemplate.delete(FAVORITE_BOARD_KEY + userId);
+    }
+
+    /* 페이지 전체 개수 캐시 관련 Redis 메서드
+    * 1. PageTotal (String)
+    * Key: PageTotal:{조회 대상}
+    * Value: {COUNT 결과}
+     */
+    public Long getPageTotal(String key) {
+        Object total = redisTemplate.opsForValue().get(PAGE_TOTAL_KEY + key);
+        return total == null ? null : ((Number) total).longValue();
+    }
+
+    public void setPageTotal(String key, long total, Long expiredTime) {
+        redisTemplate.opsForValue().set(PAGE_TOTAL_KEY + key, total, expiredTime, TimeUnit.MILLISECONDS);
+    }
+
+    /* 예약 작업 관련 Redis 메서드
+    * 1. JobLock (String)
+    * Key: JobLock:{작업 이름}
+    * Value: "LOCKED"
+     */
+    // 여러 서버에서 같은 시각에 실행되는 작업 중 하나만 실행 (작업이 끝나도 만료 시간까지 유지하여 늦게 시작한 서버의 재실행을 막음)
+    public boolean tryAcquireJobLock(String jobName, Long expiredTime) {
+        String redisKey = JOB_LOCK_KEY + jobName;
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(redisKey, "LOCKED", expiredTime, TimeUnit.MILLISECONDS));
+    }
+
     /* UuidFile 관련 Redis 메서드
     * 1. PageNum
     * Key: {tableName}PageNum
@@ -16,15 +16,69 @@ public class StaticValue {
     public static final Integer DEFAULT_POST_PAGE_SIZE = 20;
     public static final Integer DEFAULT_COMMENT_PAGE_SIZE = 20;
     public static final Integer HOME_POST_PAGE_SIZE = 3;
+    public static final Integer MAIN_BOARD_RECENT_POST_SIZE = 3;
+    public static final Long FAVORITE_BOARD_CACHE_TTL = 1000L * 60 * 10;  // 10min, 즐겨찾기 변경 시에는 즉시 무효화
+    public static final Long PAGE_TOTAL_CACHE_TTL = 1000L * 60 * 5;  // 5min, APPROXIMATE 모드의 전체 개수 캐시
+    public static final Long HOME_PAGE_CACHE_TTL = 1000L * 30;  // 30sec, 게시글 변경 시에는 즉시 무효화
+    public static final String HOME_PAGE_CACHE_CHANNEL = "HomePageCache";   // 서버 간 홈페이지 캐시 무효화 relay 채널
     public final static Integer USER_LIST_PAGE_SIZE = 30;
 
+    // Post Search
+    public static final Integer POST_SEARCH_NGRAM_TOKEN_SIZE = 2;  // MySQL ngram_token_size 기본값, 이보다 짧은 검색어는 LIKE 검색
+
+    // Post Count
+    public static final Integer POST_COUNT_SYNC_BATCH_SIZE = 500;   // 집계 컬럼 재계산 시 한 트랜잭션에서 갱신하는 게시글 수
+    public static final Long POST_COUNT_SYNC_LOCK_TTL = 1000L * 60 * 60;  // 1hour, 여러 서버 중 한 곳에서만 재계산
+
+    // Post View
+    public static final Long POST_VIEW_DEDUPE_TIME = 1000L * 60 * 60;  // 1hour, 같은 사용자의 반복 조회는 한 번만 집계
+    public static final Long POST_VIEW_FLUSH_RETRY_TIME = 1000L * 60 * 5;    // 5min, 반영 중인 채로 이보다 오래 남은 버퍼는 다시 반영
+    public static final Long POST_VIEW_FLUSHING_TTL = 1000L * 60 * 60 * 24;  // 1day, 반영하지 못한 버퍼가 Redis에 계속 남지 않도록
+
+    // Hot Post
+    public static final Integer HOT_POST_PAGE_SIZE = 10;
+    public static final Integer HOT_POST_MAX_SIZE = 500;   // 랭킹 key 별로 유지하는 최대 게시글 수
+    public static final Long HOT_POST_HALF_LIFE = 1000L * 60 * 60 * 12;    // 12hour, 활동 점수가 절반이 되는 시간
+    public static final Long HOT_POST_SCORE_EPOCH = 1704067200000L;    // 2024-01-01T00:00:00Z, 점수 계산 기준 시각
+    public static final Long HOT_POST_CONTRIBUTION_TTL = 1000L * 60 * 60 * 24 * 7;    // 7day, 활동별 점수 보관 시간 (이후 취소는 점수에서 빼지 않음)
+
+    // Notification
+    public static final Integer NOTIFICATION_INSERT_MAX_ATTEMPTS = 3;
+    public static final Long NOTIFICATION_INSERT_RETRY_BACKOFF = 1000L;   // 1sec, 재시도마다 2배씩 증가
+    public static final Integer NOTIFICATION_FANOUT_QUEUE_CAPACITY = 1000;
+    public static final Integer NOTIFICATION_PAGE_SIZE = 20;
+    public static final Integer NOTIFICATION_PREVIEW_SIZE = 4;
+    public static final String NOTIFICATION_PUSH_CHANNEL = "NotificationPush";    // 서버 간 실시간 알림 relay 채널
+    public static final Long NOTIFICATION_SSE_TIMEOUT = 1000L * 60 * 30;   // 30min, 만료 시 클라이언트가 재연결
+    public static final Integer NOTIFICATION_SSE_MAX_CONNECTIONS_PER_USER = 5;
+    public static final Integer NOTIFICATION_SSE_BUFFER_SIZE = 64;    // 연결별로 전송 대기 가능한 최대 이벤트 수
+    public static final Integer NOTIFICATION_SSE_SENDER_THREADS = 4;
+    public static final Long NOTIFICATION_SSE_SEND_TIMEOUT = 1000L * 5;    // 5sec, 이보다 오래 멈춘 전송은 연결을 끊음
+    public static final Integer NOTIFICATION_SSE_SENDER_QUEUE_CAPACITY = 10000;
+    public static final Integer BOARD_SUBSCRIBER_ORDINAL_BATCH_SIZE = 1000;   // 구독자 bitmap 재구성 시 한 번에 순번을 부여할 사용자 수
+    public static final Long BOARD_SUBSCRIBER_REBUILD_TIMEOUT = 1000L * 60 * 10;  // 10min, 재구성 중 변경 기록과 중복 실행 방지 유지 시간
+
     // Event
     public static final Integer MAX_NUM_EVENT = 10;
 
     // JWT Token
     public static final Long JWT_ACCESS_TOKEN_VALID_TIME = 1000L * 60 * 30;    // 30min
+    public static final Long USER_SNAPSHOT_CACHE_TTL = 1000L * 30;  // 30sec, 권한/상태 변경 시에는 즉시 무효화
+    public static final Integer USER_SNAPSHOT_CACHE_MAX_SIZE = 10000;
     public static final Long JWT_REFRESH_TOKEN_VALID_TIME = 1000L * 60 * 60 * 24 * 7;   // 7day
+    public static final Long JWT_REFRESH_TOKEN_REUSE_GRACE_TIME = 1000L * 10;   // 10sec, 교체 직후 직전 토큰이 다시 사용되면 탈취로 보지 않고 현재 토큰을 돌려줌
     public static final Integer JWT_ACCESS_THRESHOLD = 60 * 60 * 24;  // 1 day
+    public static final String TOKEN_BLACKLIST_CHANNEL = "TokenBlacklist";  // 서버 간 블랙리스트 등록 relay 채널
+    public static final Integer TOKEN_BLACKLIST_BLOOM_EXPECTED_INSERTIONS = 100000;
+    public static final Double TOKEN_BLACKLIST_BLOOM_FALSE_POSITIVE_RATE = 0.001;
+    public static final Integer TOKEN_BLACKLIST_SCAN_COUNT = 1000;
+    public static final Long TOKEN_BLACKLIST_SUBSCRIPTION_TIMEOUT = 1000L * 15;  // 15sec, 5초마다 보내는 확인 메시지가 이보다 오래 오지 않으면 filter를 끔
+    public static final Integer PASSWORD_HASH_QUEUE_CAPACITY = 64;
+    public static final Long PASSWORD_HASH_TIMEOUT = 5000L;     // 5sec, 대기 포함 최대 시간
+    public static final Long PASSWORD_HASH_ESTIMATED_TIME = 100L;   // 100ms, 측정 전 사용하는 해시 1회 예상 시간 (BCrypt strength 10 기준)
+    public static final Long PASSWORD_HASH_RETRY_AFTER = 2L;    // 2sec, 거절 시 Retry-After
+    public static final Integer RATE_LIMIT_LOCAL_MAX_KEYS = 100000;  // 서버 메모리에 보관하는 차단/대체 bucket 최대 수
+    public static final Integer RATE_LIMIT_MAX_BODY_SIZE = 8 * 1024;  // 계정별 제한 API에서 허용하는 요청 body 최대 크기 (넘으면 413)
 
     // Swagger configuration
     public static final String SWAGGER_API_NAME = "CAU_SW API";
@@ -76,6 +130,12 @@ public class StaticValue {
     public static final Integer SELECT_UNUSED_UUID_FILE_PAGE_SIZE = 10000;
     public static final Long CLEAN_UNUSED_UUID_FILE_REDIS_EXPIRED_TIME = 1000L * 60 * 60;   // 1hour
 
+    // ImageVariant
+    public static final Integer IMAGE_VARIANT_WORKER_THREADS = 2;
+    public static final Integer IMAGE_VARIANT_QUEUE_CAPACITY = 200;
+    public static final Long IMAGE_VARIANT_MAX_PIXELS = 40_000_000L;   // 디코딩 전에 확인하는 최대 픽셀 수 (압축 폭탄 방지)
+    public static final Float IMAGE_VARIANT_JPEG_QUALITY = 0.85f;
+
     // WebCrawlerService
     public static final String CAU_CSE_BASE_URL = "https://cse.cau.ac.kr/sub05/sub0501.php?offset="; // CAU 소프트웨어학부 공지사항 크롤링 주소
 